@@ -0,0 +1,23 @@
+package com.cesco.scheduly.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CatalogReloadExecutorConfig {
+
+    // 카탈로그 재적재 전용 스레드 1개. 한 번에 하나만 실행되고, 요청 스레드나 추천 스레드 풀과 CPU 를 다투지 않도록 우선순위를 낮춘다.
+    @Bean(name = "catalogReloadExecutor")
+    public ThreadPoolTaskExecutor catalogReloadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("catalog-reload-");
+        executor.setThreadPriority(Thread.MIN_PRIORITY);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
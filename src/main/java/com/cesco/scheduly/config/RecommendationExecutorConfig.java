@@ -0,0 +1,38 @@
+package com.cesco.scheduly.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RecommendationExecutorConfig {
+
+    // 요청 스레드(Tomcat) 밖에서 시간표 추천을 실행하는 전용 스레드 풀. 큐가 가득 차면 TaskRejectedException 으로 거절한다.
+    @Bean(name = "recommendationExecutor")
+    public ThreadPoolTaskExecutor recommendationExecutor(
+            @Value("${scheduly.recommendation.executor.pool-size:4}") int poolSize,
+            @Value("${scheduly.recommendation.executor.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommendation-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    // SSE 이벤트 전송 전용 스레드 풀. 탐색 작업자가 직접 emitter.send 로 막히지 않도록 스트림별 전송 대기열을 여기서 비운다.
+    @Bean(name = "recommendationStreamSender")
+    public ThreadPoolTaskExecutor recommendationStreamSender(
+            @Value("${scheduly.recommendation.stream-sender.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("recommendation-sse-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
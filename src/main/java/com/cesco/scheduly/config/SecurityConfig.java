@@ -1,5 +1,6 @@
 package com.cesco.scheduly.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -38,6 +39,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // 세션 비활성화
                 .authorizeHttpRequests(authz -> authz
+                        // SSE 등 비동기 요청의 재디스패치는 JWT 필터(OncePerRequestFilter)를 다시 거치지 않으므로, 최초 요청의 인가 결과를 따른다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(
                                 "/",
                                 "/health",
@@ -0,0 +1,59 @@
+package com.cesco.scheduly.controller;
+
+import com.cesco.scheduly.dto.ApiResponse;
+import com.cesco.scheduly.service.CatalogReloadService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// 운영자용 API. 로그인(JWT)에 더해 X-Admin-Token 헤더가 scheduly.admin.token 과 같아야 한다. 설정이 비어 있으면 사용할 수 없다.
+@RestController
+@RequestMapping("/admin/catalog")
+public class AdminCatalogController {
+
+    private final CatalogReloadService catalogReloadService;
+
+    @Value("${scheduly.admin.token:}")
+    private String adminToken = "";
+
+    public AdminCatalogController(CatalogReloadService catalogReloadService) {
+        this.catalogReloadService = catalogReloadService;
+    }
+
+    // 요청 본문의 강의 JSON(everytime_courses.json 형식)으로 카탈로그를 백그라운드에서 재적재한다. 진행 상태는 GET 으로 확인
+    // 본문은 byte[] 로 받지 않고 스트림 그대로 넘겨 임시 파일로 옮긴다. (큰 JSON 을 요청 스레드 힙에 올리지 않음)
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload(@RequestHeader(value = "X-Admin-Token", required = false) String token,
+                                    InputStream json) throws IOException {
+        if (!isAdmin(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ApiResponse("관리자 권한이 없습니다."));
+        }
+        if (!catalogReloadService.submit(json)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(catalogReloadService.getStatus());
+        }
+        return ResponseEntity.accepted().body(catalogReloadService.getStatus());
+    }
+
+    @GetMapping("/reload")
+    public ResponseEntity<?> reloadStatus(@RequestHeader(value = "X-Admin-Token", required = false) String token) {
+        if (!isAdmin(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ApiResponse("관리자 권한이 없습니다."));
+        }
+        return ResponseEntity.ok(catalogReloadService.getStatus());
+    }
+
+    private boolean isAdmin(String token) {
+        return !adminToken.isEmpty() && token != null
+                && MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+}
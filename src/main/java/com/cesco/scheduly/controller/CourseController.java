@@ -4,6 +4,7 @@ import com.cesco.scheduly.dto.course.CourseInfo;
 import com.cesco.scheduly.dto.course.CourseSearchResponse;
 import com.cesco.scheduly.dto.course.PastCourseDto;
 import com.cesco.scheduly.dto.course.PastCourseSearchResponse;
+import com.cesco.scheduly.enums.CourseSearchMode;
 import com.cesco.scheduly.model.DetailedCourseInfo;
 import com.cesco.scheduly.service.CourseDataService;
 import com.cesco.scheduly.service.PastCourseService;
@@ -16,8 +17,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/courses")
@@ -38,25 +37,25 @@ public class CourseController {
 
     @GetMapping("/search")
     public ResponseEntity<CourseSearchResponse> searchCourses(
-            @RequestParam("q") String query) { // 파라미터 이름을 'q'로 명시하고, 필수 값으로 변경합니다.
+            @RequestParam("q") String query, // 파라미터 이름을 'q'로 명시하고, 필수 값으로 변경합니다.
+            @RequestParam(value = "mode", defaultValue = "TEXT") CourseSearchMode mode) { // HANGUL: 초성/자모/약어 검색
         // department와 grade 파라미터에 null을 전달하여 해당 필터링 조건을 무시하도록 합니다.
-        List<CourseInfo> courses = courseDataService.searchCourses(query, null, null);
+        List<CourseInfo> courses = courseDataService.searchCourses(query, null, null, mode);
         return ResponseEntity.ok(new CourseSearchResponse(courses));
     }
 
     @GetMapping("/past-search")
-    public ResponseEntity<PastCourseSearchResponse> searchPastCourses(@RequestParam("q") String query) {
-        List<PastCourseDto> results = pastCourseService.search(query);
+    public ResponseEntity<PastCourseSearchResponse> searchPastCourses(
+            @RequestParam("q") String query,
+            @RequestParam(value = "mode", defaultValue = "TEXT") CourseSearchMode mode) {
+        List<PastCourseDto> results = pastCourseService.search(query, mode);
         return ResponseEntity.ok(new PastCourseSearchResponse(results));
     }
 
     @GetMapping("/user-selections")
     public ResponseEntity<List<DetailedCourseInfo>> getUserSelectionCourses(@RequestParam Long userId) {
         List<String> courseCodes = userService.getRequiredAndRetakeCourses(userId);
-        List<DetailedCourseInfo> courses = courseCodes.stream()
-                .map(courseDataService::getDetailedCourseByCode)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        List<DetailedCourseInfo> courses = courseDataService.getDetailedCoursesByCodes(courseCodes);
         return ResponseEntity.ok(courses);
     }
 }
\ No newline at end of file
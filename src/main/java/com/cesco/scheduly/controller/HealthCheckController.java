@@ -1,14 +1,29 @@
 package com.cesco.scheduly.controller;
 
+import com.cesco.scheduly.service.SearchBudgetMetrics;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 public class HealthCheckController {
 
+    private final SearchBudgetMetrics searchBudgetMetrics;
+
+    public HealthCheckController(SearchBudgetMetrics searchBudgetMetrics) {
+        this.searchBudgetMetrics = searchBudgetMetrics;
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("OK");
     }
-}
\ No newline at end of file
+
+    // 추천 탐색 예산(노드 수/시간/메모리) 초과 횟수 (인증 필요)
+    @GetMapping("/health/recommendation-search")
+    public ResponseEntity<Map<String, Long>> recommendationSearchMetrics() {
+        return ResponseEntity.ok(searchBudgetMetrics.snapshot());
+    }
+}
@@ -26,4 +26,11 @@ public class LectureFilterController {
         List<String> result = courseDataService.findCoursesByPrefix(req.getExclude_prefixes());
         return ResponseEntity.ok(Map.of("excluded", result));
     }
+
+    // 접두사 수백 개를 한 번에 보내는 일괄 요청. 접두사별 일치 학수번호를 돌려준다.
+    @PostMapping("/exclude-related/batch")
+    public ResponseEntity<?> excludeRelatedBatch(@RequestBody LecturePrefixRequest req) {
+        Map<String, List<String>> result = courseDataService.findCoursesByEachPrefix(req.getExclude_prefixes());
+        return ResponseEntity.ok(Map.of("excludedByPrefix", result));
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.cesco.scheduly.controller;
 
-import com.cesco.scheduly.entity.UserCourseSelectionEntity;
+import com.cesco.scheduly.dto.course.CourseListChangeRequest;
+import com.cesco.scheduly.model.CourseSelectionSnapshot;
 import com.cesco.scheduly.model.DetailedCourseInfo;
 import com.cesco.scheduly.service.CourseDataService;
 import com.cesco.scheduly.service.UserService;
@@ -8,9 +9,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.List;
-import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -42,6 +43,16 @@ public class PreferencesController {
     return ResponseEntity.ok(Map.of("status", "completed_removed"));
   }
 
+  // 기수강 과목 일부 추가/삭제 (바뀐 과목만 저장)
+  @PatchMapping("/completed")
+  public ResponseEntity<?> changeCompletedLectures(
+          @RequestParam Long userId,
+          @RequestBody CourseListChangeRequest request
+  ) {
+    userService.changeTakenCourses(userId, request.getAdd(), request.getRemove());
+    return ResponseEntity.ok(Map.of("status", "completed_changed"));
+  }
+
   // ✅ 필수 과목 추가
   @PostMapping("/required")
   public ResponseEntity<?> addRequiredLectures(
@@ -62,6 +73,16 @@ public class PreferencesController {
     return ResponseEntity.ok(Map.of("status", "required_removed"));
   }
 
+  // 필수 과목 일부 추가/삭제 (바뀐 과목만 저장)
+  @PatchMapping("/required")
+  public ResponseEntity<?> changeRequiredLectures(
+          @RequestParam Long userId,
+          @RequestBody CourseListChangeRequest request
+  ) {
+    userService.changeMandatoryCourses(userId, request.getAdd(), request.getRemove());
+    return ResponseEntity.ok(Map.of("status", "required_changed"));
+  }
+
   // 재수강 과목 추가
   @PostMapping("/retake")
   public ResponseEntity<?> addRetakeLectures(
@@ -82,6 +103,16 @@ public class PreferencesController {
     return ResponseEntity.ok(Map.of("status", "retake_removed"));
   }
 
+  // 재수강 과목 일부 추가/삭제 (바뀐 과목만 저장)
+  @PatchMapping("/retake")
+  public ResponseEntity<?> changeRetakeLectures(
+          @RequestParam Long userId,
+          @RequestBody CourseListChangeRequest request
+  ) {
+    userService.changeRetakeCourses(userId, request.getAdd(), request.getRemove());
+    return ResponseEntity.ok(Map.of("status", "retake_changed"));
+  }
+
   @GetMapping("/retake/available")   // 재수강 과목에서 기수강 과목 조회
   public ResponseEntity<List<DetailedCourseInfo>> getRetakeCandidates(@RequestParam Long userId) {
     List<DetailedCourseInfo> taken = userService.getTakenCoursesWithDetails(userId);
@@ -93,13 +124,12 @@ public class PreferencesController {
           @RequestParam Long userId,
           @RequestParam(required = false) String courseCode // 필터링 파라미터 추가
   ) {
-    UserCourseSelectionEntity selection = userService.getUserCourseSelectionByUserId(userId);
+    CourseSelectionSnapshot selection = userService.getCourseSelection(userId);
 
-    Function<List<String>, List<DetailedCourseInfo>> toDetails = courseCodes -> courseCodes.stream()
-            .filter(code -> courseCode == null || code.equals(courseCode)) // 필터링 조건
-            .map(courseDataService::getDetailedCourseByCode)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    Function<Collection<String>, List<DetailedCourseInfo>> toDetails = courseCodes -> courseDataService.getDetailedCoursesByCodes(
+            courseCodes.stream()
+                    .filter(code -> courseCode == null || code.equals(courseCode)) // 필터링 조건
+                    .collect(Collectors.toList()));
 
     Map<String, List<DetailedCourseInfo>> result = Map.of(
             "taken", toDetails.apply(selection.getTakenCourses()),
@@ -109,13 +139,16 @@ public class PreferencesController {
     return ResponseEntity.ok(result);
   }
 
+  // 목록별 과목 수만 조회 (과목 목록은 읽지 않음)
+  @GetMapping("/counts")
+  public ResponseEntity<Map<String, Integer>> getCourseCounts(@RequestParam Long userId) {
+    return ResponseEntity.ok(userService.getCourseSelectionCounts(userId));
+  }
+
   @GetMapping("/retake")
   public ResponseEntity<List<DetailedCourseInfo>> getRetakeCourses(@RequestParam Long userId) {
     List<String> retakeCodes = userService.getRetakeCourses(userId);
-    List<DetailedCourseInfo> details = retakeCodes.stream()
-            .map(courseCode -> courseDataService.getDetailedCourseByCode(courseCode))
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
+    List<DetailedCourseInfo> details = courseDataService.getDetailedCoursesByCodes(retakeCodes);
     return ResponseEntity.ok(details);
   }
 }
\ No newline at end of file
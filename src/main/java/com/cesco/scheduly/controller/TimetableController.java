@@ -2,10 +2,13 @@ package com.cesco.scheduly.controller;
 
 import com.cesco.scheduly.dto.ApiResponse;
 import com.cesco.scheduly.dto.timetable.CreditSettingsRequest;
+import com.cesco.scheduly.dto.timetable.RecommendationJobResponse;
 import com.cesco.scheduly.dto.timetable.RecommendedTimetableDto;
 import com.cesco.scheduly.dto.timetable.RecommendedTimetableResponse;
 import com.cesco.scheduly.dto.timetable.TimePreferenceRequest;
 import com.cesco.scheduly.exception.MandatoryCourseConflictException;
+import com.cesco.scheduly.model.RecommendationJob;
+import com.cesco.scheduly.service.RecommendationJobService;
 import com.cesco.scheduly.service.TimetableService;
 import com.cesco.scheduly.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,12 +16,21 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Collections;
+import java.io.IOException;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Tag(name = "시간표 생성 5단계 및 생성 API")
 
@@ -29,13 +41,25 @@ public class TimetableController {
 
     private final TimetableService timetableService;
     private final UserService userService; // 대문자 S로 된 UserService 사용 가정
+    private final TaskExecutor recommendationExecutor; // 스트리밍 추천을 요청 스레드 밖에서 실행
+    private final TaskExecutor streamSender; // SSE 이벤트 전송 (탐색 스레드와 분리)
+    private final RecommendationJobService recommendationJobService;
+
+    @Value("${scheduly.recommendation.stream-timeout-ms:30000}")
+    private long streamTimeoutMillis = 30_000L;
 
     private static final Logger logger = LoggerFactory.getLogger(TimetableController.class);
 
     @Autowired // 생성자 주입
-    public TimetableController(TimetableService timetableService, UserService userService) {
+    public TimetableController(TimetableService timetableService, UserService userService,
+                               @Qualifier("recommendationExecutor") TaskExecutor recommendationExecutor,
+                               @Qualifier("recommendationStreamSender") TaskExecutor streamSender,
+                               RecommendationJobService recommendationJobService) {
         this.timetableService = timetableService;
         this.userService = userService;
+        this.recommendationExecutor = recommendationExecutor;
+        this.streamSender = streamSender;
+        this.recommendationJobService = recommendationJobService;
     }
 
     // 5단계: 시간 선호도 저장 API
@@ -79,12 +103,8 @@ public class TimetableController {
     @GetMapping("/recommendations")
     public ResponseEntity<?> getRecommendedTimetables(@PathVariable Long userId) { // Long 타입으로 변경
         try {
-            List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(userId);
-            if (recommendations == null || recommendations.isEmpty()) {
-                // 팀원이 구현한 다른 컨트롤러에서 Map.of("message", "...") 형태를 사용했다면 일관성 유지 가능
-                return ResponseEntity.ok(new RecommendedTimetableResponse(Collections.emptyList(),"추천 가능한 시간표를 찾지 못했습니다. 조건을 변경하거나 필수 과목을 확인해주세요."));
-            }
-            return ResponseEntity.ok(new RecommendedTimetableResponse(recommendations, recommendations.size() + "개의 시간표를 추천합니다."));
+            // 탐색 예산 초과 시 truncated=true 와 함께 그때까지 찾은 최선의 시간표가 반환됨
+            return ResponseEntity.ok(timetableService.recommendTimetables(userId));
         }
         catch (MandatoryCourseConflictException e) {
             logger.warn("시간표 추천 요청 처리 중 필수 과목 충돌 - User ID: {}, 오류: {}", userId, e.getMessage());
@@ -99,6 +119,81 @@ public class TimetableController {
         }
     }
 
+    // 9단계 (스트리밍): 찾는 즉시 "timetable" 이벤트로 보내고, 탐색이 끝나면 최종 순위를 "summary" 이벤트로 보냄
+    @Operation(summary = "추천 시간표 스트리밍",
+            description = "탐색 중 상위 후보에 드는 시간표를 찾을 때마다 timetable 이벤트로 전송하고, 마지막에 최종 추천 결과(RecommendedTimetableResponse)를 summary 이벤트로 전송합니다. 실패 시 error 이벤트를 전송합니다.")
+    @GetMapping(value = "/recommendations/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRecommendedTimetables(@PathVariable Long userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        AtomicBoolean cancelled = new AtomicBoolean(); // 연결이 끊기면 탐색을 중단시킴
+        emitter.onCompletion(() -> cancelled.set(true));
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(e -> cancelled.set(true));
+
+        try {
+            recommendationExecutor.execute(() -> streamRecommendations(userId, emitter, cancelled));
+        } catch (TaskRejectedException e) {
+            logger.warn("추천 스트리밍 요청 거절 (실행 대기열 초과) - User ID: {}", userId);
+            sendErrorAndComplete(emitter, "추천 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return emitter;
+    }
+
+    // 9단계 (비동기): 추천 작업을 등록하고 jobId 를 바로 반환. 진행 중인 작업이 있으면 그 작업을 반환
+    @Operation(summary = "추천 시간표 생성 작업 등록",
+            description = "추천을 백그라운드에서 실행하고 작업 ID를 반환합니다. 이미 진행 중인 작업이 있으면 같은 작업을 반환합니다. 대기열이 가득 차면 503을 반환합니다.")
+    @PostMapping("/recommendations/jobs")
+    public ResponseEntity<RecommendationJobResponse> submitRecommendationJob(@PathVariable Long userId) {
+        RecommendationJob job = recommendationJobService.submit(userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(RecommendationJobResponse.from(job));
+    }
+
+    @Operation(summary = "추천 시간표 생성 작업 조회", description = "작업 상태(QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED)와 완료 시 추천 결과를 반환합니다.")
+    @GetMapping("/recommendations/jobs/{jobId}")
+    public ResponseEntity<RecommendationJobResponse> getRecommendationJob(@PathVariable Long userId, @PathVariable String jobId) {
+        return ResponseEntity.ok(RecommendationJobResponse.from(recommendationJobService.getJob(userId, jobId)));
+    }
+
+    @Operation(summary = "추천 시간표 생성 작업 취소",
+            description = "대기 중인 작업은 바로 CANCELLED 가 되고, 탐색 중인 작업은 탐색을 멈춘 뒤 CANCELLED 가 됩니다. 이미 끝난 작업은 그대로 반환합니다.")
+    @DeleteMapping("/recommendations/jobs/{jobId}")
+    public ResponseEntity<RecommendationJobResponse> cancelRecommendationJob(@PathVariable Long userId, @PathVariable String jobId) {
+        return ResponseEntity.ok(RecommendationJobResponse.from(recommendationJobService.cancel(userId, jobId)));
+    }
+
+    // 탐색 콜백은 병렬 탐색 작업자 스레드에서 불리므로 이벤트를 대기열에 넣기만 하고, 전송은 streamSender 가 순서대로 한다.
+    private void streamRecommendations(Long userId, SseEmitter emitter, AtomicBoolean cancelled) {
+        SseEventQueue events = new SseEventQueue(emitter, streamSender, cancelled);
+        try {
+            RecommendedTimetableResponse response = timetableService.recommendTimetables(userId,
+                    timetable -> events.offer(SseEmitter.event().name("timetable").data(timetable)), cancelled::get);
+
+            if (cancelled.get()) {
+                logger.info("추천 스트리밍 중 클라이언트 연결 종료 - User ID: {}", userId);
+                return;
+            }
+            events.offer(SseEmitter.event().name("summary").data(response));
+            events.complete();
+        } catch (IllegalArgumentException e) { // MandatoryCourseConflictException 포함
+            logger.warn("추천 스트리밍 처리 중 요청 오류 - User ID: {}, 오류: {}", userId, e.getMessage());
+            events.offer(SseEmitter.event().name("error").data(new ApiResponse(e.getMessage())));
+            events.complete();
+        } catch (Exception e) {
+            logger.error("추천 스트리밍 중 심각한 오류 - User ID: {}", userId, e);
+            events.offer(SseEmitter.event().name("error").data(new ApiResponse("시간표 추천 중 내부 서버 오류가 발생했습니다. 잠시 후 다시 시도해주세요.")));
+            events.complete();
+        }
+    }
+
+    private void sendErrorAndComplete(SseEmitter emitter, String message) {
+        try {
+            emitter.send(SseEmitter.event().name("error").data(new ApiResponse(message)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
     @Operation(summary = "생성된 시간표 저장")
     @PostMapping("/save")
     public ResponseEntity<ApiResponse> saveTimetable(
@@ -109,4 +204,85 @@ public class TimetableController {
         return ResponseEntity.ok(new ApiResponse("시간표가 성공적으로 저장되었습니다."));
     }
 
-}
\ No newline at end of file
+    @Operation(summary = "저장한 시간표 목록", description = "저장한 시간표를 최근 것부터 반환합니다. timetableId 는 저장 번호입니다.")
+    @GetMapping("/saved")
+    public ResponseEntity<List<RecommendedTimetableDto>> getSavedTimetables(@PathVariable Long userId) {
+        return ResponseEntity.ok(timetableService.getSavedTimetables(userId));
+    }
+
+    @Operation(summary = "저장한 시간표 삭제")
+    @DeleteMapping("/saved/{timetableId}")
+    public ResponseEntity<ApiResponse> deleteSavedTimetable(
+            @PathVariable Long userId,
+            @PathVariable Long timetableId) {
+
+        userService.deleteSavedTimetable(userId, timetableId);
+        return ResponseEntity.ok(new ApiResponse("저장한 시간표를 삭제했습니다."));
+    }
+
+    /**
+     * 한 스트림의 SSE 이벤트 전송 대기열. 여러 스레드가 offer 해도 전송 작업은 스트림당 한 번에 하나만 실행되므로
+     * 이벤트는 넣은 순서대로 보내지고, 느린 클라이언트가 탐색 작업자 스레드를 붙잡지 않는다.
+     */
+    private static final class SseEventQueue {
+
+        private static final SseEmitter.SseEventBuilder COMPLETE = SseEmitter.event(); // 전송 후 스트림을 닫으라는 표시
+
+        private final SseEmitter emitter;
+        private final TaskExecutor sender;
+        private final AtomicBoolean cancelled;
+        private final Queue<SseEmitter.SseEventBuilder> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        SseEventQueue(SseEmitter emitter, TaskExecutor sender, AtomicBoolean cancelled) {
+            this.emitter = emitter;
+            this.sender = sender;
+            this.cancelled = cancelled;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (cancelled.get()) return;
+            events.offer(event);
+            scheduleDrain();
+        }
+
+        // 앞서 넣은 이벤트를 모두 보낸 뒤 스트림을 닫는다.
+        void complete() {
+            offer(COMPLETE);
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) return;
+            try {
+                sender.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                draining.set(false);
+                cancelled.set(true);
+                events.clear();
+                emitter.completeWithError(e);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = events.poll()) != null && !cancelled.get()) {
+                    if (event == COMPLETE) {
+                        emitter.complete();
+                    } else {
+                        emitter.send(event);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                cancelled.set(true); // 연결 종료: 탐색도 중단
+            } finally {
+                draining.set(false);
+            }
+            if (cancelled.get()) {
+                events.clear();
+            } else if (!events.isEmpty()) {
+                scheduleDrain(); // 비우는 사이에 들어온 이벤트
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.cesco.scheduly.dto.course;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 과목 목록 일부만 바꾸는 요청. add 의 학수번호를 더하고 remove 의 학수번호를 뺀다. (둘 다 생략 가능)
+@Getter
+@Setter
+public class CourseListChangeRequest {
+
+    private List<String> add;
+
+    private List<String> remove;
+}
@@ -0,0 +1,26 @@
+package com.cesco.scheduly.dto.timetable;
+
+import com.cesco.scheduly.enums.RecommendationJobStatus;
+import com.cesco.scheduly.model.RecommendationJob;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationJobResponse {
+    private String jobId;
+    private RecommendationJobStatus status; // QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    private RecommendedTimetableResponse result; // COMPLETED 일 때만 존재
+    private String errorMessage; // FAILED 일 때만 존재
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    public static RecommendationJobResponse from(RecommendationJob job) {
+        return new RecommendationJobResponse(job.getJobId(), job.getStatus(), job.getResult(),
+                job.getErrorMessage(), job.getCreatedAt(), job.getFinishedAt());
+    }
+}
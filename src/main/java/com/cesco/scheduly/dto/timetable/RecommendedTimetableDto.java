@@ -10,9 +10,14 @@ import java.util.Map;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecommendedTimetableDto {
-    private int timetableId; // 추천 번호 (1, 2, 3)
+    private Long timetableId; // 추천 번호 (1, 2, 3). 저장된 시간표는 저장 번호(saved_timetables 의 PK)
     private List<ScheduledCourseDto> scheduledCourses;
     private Map<String, Integer> creditsByType; // 유형별 실제 수강 학점 예: {"전공": 9, "교양": 6}
     private int totalCredits;
-    // private double score; // (선택) 시간표 만족도 점수
+    private double score; // 시간표 만족도 점수 (선호 시간대, 공강, 우주공강, 학점 등을 반영. 높을수록 좋음)
+
+    public RecommendedTimetableDto(Long timetableId, List<ScheduledCourseDto> scheduledCourses,
+                                   Map<String, Integer> creditsByType, int totalCredits) {
+        this(timetableId, scheduledCourses, creditsByType, totalCredits, 0.0);
+    }
 }
\ No newline at end of file
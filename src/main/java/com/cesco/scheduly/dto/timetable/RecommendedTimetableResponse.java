@@ -11,4 +11,9 @@ import java.util.List;
 public class RecommendedTimetableResponse {
     private List<RecommendedTimetableDto> timetables;
     private String message; // 추가 메시지 (예: "3개의 시간표를 추천합니다.")
+    private boolean truncated; // 탐색 예산(시간/노드/메모리) 초과로 일부 조합만 검토한 결과인지 여부
+
+    public RecommendedTimetableResponse(List<RecommendedTimetableDto> timetables, String message) {
+        this(timetables, message, false);
+    }
 }
\ No newline at end of file
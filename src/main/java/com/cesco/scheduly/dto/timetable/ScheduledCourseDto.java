@@ -19,4 +19,11 @@ public class ScheduledCourseDto {
     // 이 과목이 해당 시간표에서 실제로 배정된 시간 정보 (요일과 교시 리스트)
     // 한 과목이 여러 시간대에 걸쳐 수업하는 경우 (예: 주 2회) 모두 포함
     private List<TimeSlotDto> actualClassTimes;
+    // 같은 시간/학점이라 대신 수강할 수 있는 다른 분반의 학수번호 (없으면 빈 리스트)
+    private List<String> alternativeCourseCodes;
+
+    public ScheduledCourseDto(String courseCode, String courseName, String department, int credits, String professor,
+                              String classroom, String remarks, List<TimeSlotDto> actualClassTimes) {
+        this(courseCode, courseName, department, credits, professor, classroom, remarks, actualClassTimes, List.of());
+    }
 }
\ No newline at end of file
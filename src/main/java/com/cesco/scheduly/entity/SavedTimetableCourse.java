@@ -0,0 +1,24 @@
+package com.cesco.scheduly.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 저장된 시간표의 과목 한 줄. 과목명/교수/시간 등은 저장하지 않고 조회 시 카탈로그에서 채운다.
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedTimetableCourse {
+
+    @Column(name = "course_code", length = 20, nullable = false)
+    private String courseCode; // 학수번호
+
+    @Column(name = "course_type", length = 20)
+    private String courseType; // 저장 당시 이 사용자 기준으로 계산된 과목 유형 (전공, 교양 등)
+
+    @Column(nullable = false)
+    private int credits; // 저장 당시 학점 (카탈로그에서 과목이 빠져도 학점 합계가 맞도록)
+}
@@ -0,0 +1,56 @@
+package com.cesco.scheduly.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자가 저장한 시간표. 학수번호와 저장 당시 계산한 학점만 행으로 저장하고,
+ * 과목명/교수/강의실/수업 시간은 조회할 때 강의 카탈로그에서 채운다. 사용자당 여러 개를 저장할 수 있다.
+ */
+@Entity
+@Table(name = "saved_timetables", indexes = @Index(name = "idx_saved_timetables_user_id", columnList = "user_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavedTimetableEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "timetable_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false)
+    private User user;
+
+    @ElementCollection
+    @CollectionTable(name = "saved_timetable_courses", joinColumns = @JoinColumn(name = "timetable_id"))
+    @OrderColumn(name = "course_order")
+    @Builder.Default
+    private List<SavedTimetableCourse> courses = new ArrayList<>();
+
+    @ElementCollection
+    @CollectionTable(name = "saved_timetable_credits", joinColumns = @JoinColumn(name = "timetable_id"))
+    @MapKeyColumn(name = "course_type", length = 20)
+    @Column(name = "credits", nullable = false)
+    @Builder.Default
+    private Map<String, Integer> creditsByType = new LinkedHashMap<>(); // 유형별 학점 예: {"전공": 9, "교양": 6}
+
+    @Column(nullable = false)
+    private int totalCredits;
+
+    private double score; // 추천 당시 만족도 점수
+
+    @Builder.Default
+    private LocalDateTime savedAt = LocalDateTime.now();
+}
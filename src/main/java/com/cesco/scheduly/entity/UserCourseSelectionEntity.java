@@ -5,8 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "user_course_selections")
@@ -25,21 +25,29 @@ public class UserCourseSelectionEntity {
     @JoinColumn(name = "user_id", referencedColumnName = "id", nullable = false, unique = true) // User 엔티티의 PK 'id'(Long) 참조
     private User user;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    // 과목 목록은 중복 없는 집합이다. Hibernate 는 집합 컬렉션을 (selection_id, course_code) 를 키로 저장하고
+    // 바뀐 원소만 INSERT/DELETE 한다. (List 는 순서 없는 bag 으로 취급되어 원소 하나만 바뀌어도 전체를 지우고 다시 넣는다.)
+    // 그래서 목록을 바꿀 때는 새 컬렉션으로 교체하지 말고 기존 집합을 직접 수정해야 한다. 읽을 때는 학수번호 순으로 정렬된다.
+    // 세 목록 모두 지연 로딩한다. 조회만 할 때는 엔티티 대신 UserCourseSelectionRepository 의 목록별/개수 조회나
+    // UserService.getCourseSelection 스냅샷을 쓴다.
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "user_taken_courses", joinColumns = @JoinColumn(name = "selection_id"))
-    @Column(name = "course_code")
+    @Column(name = "course_code", nullable = false)
+    @OrderBy
     @Builder.Default
-    private List<String> takenCourses = new ArrayList<>();
+    private Set<String> takenCourses = new LinkedHashSet<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "user_mandatory_courses", joinColumns = @JoinColumn(name = "selection_id"))
-    @Column(name = "course_code")
+    @Column(name = "course_code", nullable = false)
+    @OrderBy
     @Builder.Default
-    private List<String> mandatoryCourses = new ArrayList<>();
+    private Set<String> mandatoryCourses = new LinkedHashSet<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "user_retake_courses", joinColumns = @JoinColumn(name = "selection_id"))
-    @Column(name = "course_code")
+    @Column(name = "course_code", nullable = false)
+    @OrderBy
     @Builder.Default
-    private List<String> retakeCourses = new ArrayList<>();
+    private Set<String> retakeCourses = new LinkedHashSet<>();
 }
\ No newline at end of file
@@ -41,5 +41,5 @@ public class UserPreferenceEntity {
 
     @Lob
     @Column(name = "saved_timetable_json", columnDefinition = "TEXT")
-    private String savedTimetableJson; // 저장된 시간표(RecommendedTimetableDto)를 JSON 문자열로 저장
+    private String savedTimetableJson; // 이전 형식의 저장 시간표(JSON). 지금은 SavedTimetableEntity 행으로 저장하며, 다음 저장 때 지워진다.
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.cesco.scheduly.enums;
+
+public enum CatalogReloadState {
+    IDLE,      // 아직 재적재한 적 없음
+    RUNNING,   // JSON 읽기/변경분 반영/스냅샷 생성 중
+    COMPLETED, // 새 카탈로그 버전으로 교체 완료
+    FAILED     // 실패 (이전 카탈로그를 그대로 사용)
+}
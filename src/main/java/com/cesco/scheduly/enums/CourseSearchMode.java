@@ -0,0 +1,6 @@
+package com.cesco.scheduly.enums;
+
+public enum CourseSearchMode {
+    TEXT,   // 과목명/학수번호 등 부분 문자열 검색 (초성만 입력하면 자동으로 HANGUL 처리)
+    HANGUL  // 과목명 초성/자모/약어 검색 (예: "ㅈㄹㄱㅈ", "자구알")
+}
@@ -0,0 +1,9 @@
+package com.cesco.scheduly.enums;
+
+public enum RecommendationJobStatus {
+    QUEUED,    // 실행 대기열에 등록됨
+    RUNNING,   // 탐색 중
+    COMPLETED, // 완료 (result 에 추천 결과)
+    FAILED,    // 실패 (errorMessage 에 사유)
+    CANCELLED  // 사용자가 취소함 (대기 중이었으면 실행하지 않고, 탐색 중이었으면 중단)
+}
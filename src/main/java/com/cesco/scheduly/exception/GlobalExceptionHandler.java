@@ -22,6 +22,12 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(RecommendationQueueFullException.class)
+    public ResponseEntity<ApiResponse> handleRecommendationQueueFullException(RecommendationQueueFullException ex, WebRequest request) {
+        ApiResponse errorResponse = new ApiResponse(ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class) // 일반적인 잘못된 인자 예외 처리
     public ResponseEntity<ApiResponse> handleIllegalArgumentException(IllegalArgumentException ex, WebRequest request) {
         ApiResponse errorResponse = new ApiResponse("잘못된 요청입니다: " + ex.getMessage());
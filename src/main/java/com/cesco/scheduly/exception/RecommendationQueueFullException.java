@@ -0,0 +1,12 @@
+package com.cesco.scheduly.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 추천 실행 대기열이 가득 차 새 작업을 받을 수 없을 때
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class RecommendationQueueFullException extends RuntimeException {
+    public RecommendationQueueFullException(String message) {
+        super(message);
+    }
+}
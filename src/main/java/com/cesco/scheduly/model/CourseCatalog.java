@@ -0,0 +1,79 @@
+package com.cesco.scheduly.model;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 한 시점의 강의 카탈로그 스냅샷. 만든 뒤에는 바뀌지 않으며, 카탈로그가 바뀌면 새 스냅샷을 만들어 통째로 교체한다.
+ * <p>
+ * 학수번호, groupId, 세부전공, 일반화 유형별 색인을 함께 들고 있어 조회 시 전체 목록을 훑지 않는다.
+ * 담긴 DetailedCourseInfo 는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 한다.
+ */
+public final class CourseCatalog {
+
+    public static final CourseCatalog EMPTY = new CourseCatalog(0L, Collections.emptyList());
+
+    private final long version;
+    private final List<DetailedCourseInfo> courses;
+    private final Map<String, DetailedCourseInfo> byCode;
+    private final Map<String, List<DetailedCourseInfo>> byGroupId;
+    private final Map<String, List<DetailedCourseInfo>> bySpecificMajor;
+    private final Map<String, List<DetailedCourseInfo>> byGeneralizedType;
+
+    public CourseCatalog(long version, List<DetailedCourseInfo> courses) {
+        this.version = version;
+        this.courses = List.copyOf(courses);
+
+        Map<String, DetailedCourseInfo> codes = new HashMap<>();
+        for (DetailedCourseInfo course : this.courses) {
+            codes.putIfAbsent(course.getCourseCode(), course);
+        }
+        this.byCode = Collections.unmodifiableMap(codes);
+        this.byGroupId = index(this.courses, DetailedCourseInfo::getGroupId);
+        this.bySpecificMajor = index(this.courses, DetailedCourseInfo::getSpecificMajor);
+        this.byGeneralizedType = index(this.courses, DetailedCourseInfo::getGeneralizedType);
+    }
+
+    // 키 값이 null 인 과목은 색인에 넣지 않는다. 각 목록은 카탈로그 순서를 유지한다.
+    private static Map<String, List<DetailedCourseInfo>> index(List<DetailedCourseInfo> courses,
+                                                               Function<DetailedCourseInfo, String> keyOf) {
+        Map<String, List<DetailedCourseInfo>> index = new HashMap<>();
+        for (DetailedCourseInfo course : courses) {
+            String key = keyOf.apply(course);
+            if (key != null) {
+                index.computeIfAbsent(key, k -> new ArrayList<>()).add(course);
+            }
+        }
+        index.replaceAll((key, list) -> List.copyOf(list));
+        return Collections.unmodifiableMap(index);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<DetailedCourseInfo> getCourses() {
+        return courses;
+    }
+
+    public int size() {
+        return courses.size();
+    }
+
+    // 없으면 null
+    public DetailedCourseInfo findByCode(String courseCode) {
+        return courseCode != null ? byCode.get(courseCode) : null;
+    }
+
+    public List<DetailedCourseInfo> findByGroupId(String groupId) {
+        return groupId != null ? byGroupId.getOrDefault(groupId, Collections.emptyList()) : Collections.emptyList();
+    }
+
+    public List<DetailedCourseInfo> findBySpecificMajor(String specificMajor) {
+        return specificMajor != null ? bySpecificMajor.getOrDefault(specificMajor, Collections.emptyList()) : Collections.emptyList();
+    }
+
+    public List<DetailedCourseInfo> findByGeneralizedType(String generalizedType) {
+        return generalizedType != null ? byGeneralizedType.getOrDefault(generalizedType, Collections.emptyList()) : Collections.emptyList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.cesco.scheduly.model;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 사용자의 기수강/필수/재수강 학수번호 목록을 한 번에 읽어 둔 읽기 전용 스냅샷.
+ * 엔티티와 달리 지연 로딩되는 컬렉션이 없으므로 트랜잭션 밖이나 다른 요청에서 읽어도 안전하다.
+ */
+@Getter
+public final class CourseSelectionSnapshot {
+
+    private final Set<String> takenCourses;
+    private final Set<String> mandatoryCourses;
+    private final Set<String> retakeCourses;
+
+    public CourseSelectionSnapshot(Collection<String> takenCourses, Collection<String> mandatoryCourses, Collection<String> retakeCourses) {
+        this.takenCourses = copyOf(takenCourses);
+        this.mandatoryCourses = copyOf(mandatoryCourses);
+        this.retakeCourses = copyOf(retakeCourses);
+    }
+
+    // 입력 순서를 유지하며 null 은 빼고 복사한다.
+    private static Set<String> copyOf(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> copy = new LinkedHashSet<>(values);
+        copy.remove(null);
+        return Collections.unmodifiableSet(copy);
+    }
+}
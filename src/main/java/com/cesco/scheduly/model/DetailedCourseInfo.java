@@ -1,10 +1,13 @@
 package com.cesco.scheduly.model;
 
 import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.List;
 
@@ -54,6 +57,12 @@ public class DetailedCourseInfo {
 
     private boolean isRestrictedCourse; // 추천 제한 여부 - 서비스 로직에서 채움
 
+    // scheduleSlots를 비트마스크로 압축한 값. 시간 충돌 검사에 사용되며, 응답 JSON에는 포함하지 않음
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ScheduleMask scheduleMask;
+
 
     // ★★★ 여러 시간대 수업을 처리하기 위한 추가 생성자 ★★★
     public DetailedCourseInfo(String courseCode, String courseName, String departmentOriginal, String specificMajor,
@@ -74,5 +83,20 @@ public class DetailedCourseInfo {
         this.remarks = remarks;
         this.scheduleSlots = scheduleSlots;
         this.isRestrictedCourse = isRestrictedCourse;
+        this.scheduleMask = ScheduleMask.of(scheduleSlots);
+    }
+
+    // 카탈로그 로딩 시 생성자에서 미리 계산되며, setter로 만들어진 객체는 최초 조회 시 한 번만 계산된다.
+    @JsonIgnore
+    public ScheduleMask getScheduleMask() {
+        if (scheduleMask == null) {
+            scheduleMask = ScheduleMask.of(scheduleSlots);
+        }
+        return scheduleMask;
+    }
+
+    public void setScheduleSlots(List<TimeSlotDto> scheduleSlots) {
+        this.scheduleSlots = scheduleSlots;
+        this.scheduleMask = null;
     }
 }
\ No newline at end of file
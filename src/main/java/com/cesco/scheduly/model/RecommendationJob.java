@@ -0,0 +1,93 @@
+package com.cesco.scheduly.model;
+
+import com.cesco.scheduly.dto.timetable.RecommendedTimetableResponse;
+import com.cesco.scheduly.enums.RecommendationJobStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 시간표 추천 작업. 작업자 스레드가 상태를 바꾸고 요청 스레드가 조회하므로 가변 필드는 volatile 로 둔다.
+ * 취소는 요청 스레드에서, 나머지 상태 변경은 작업자 스레드에서 일어나므로 상태 변경 메서드는 synchronized 로 둔다.
+ */
+@Getter
+public class RecommendationJob {
+
+    private final String jobId;
+    private final Long userId;
+    private final LocalDateTime createdAt;
+    private volatile RecommendationJobStatus status;
+    private volatile RecommendedTimetableResponse result;
+    private volatile String errorMessage;
+    private volatile LocalDateTime finishedAt;
+    private volatile boolean cancelRequested;
+
+    public RecommendationJob(String jobId, Long userId, LocalDateTime createdAt, RecommendationJobStatus status) {
+        this.jobId = jobId;
+        this.userId = userId;
+        this.createdAt = createdAt;
+        this.status = status;
+    }
+
+    public static RecommendationJob queued(Long userId) {
+        return new RecommendationJob(UUID.randomUUID().toString(), userId, LocalDateTime.now(), RecommendationJobStatus.QUEUED);
+    }
+
+    public boolean isFinished() {
+        return status == RecommendationJobStatus.COMPLETED || status == RecommendationJobStatus.FAILED
+                || status == RecommendationJobStatus.CANCELLED;
+    }
+
+    // 탐색 중단 조건으로 쓰인다.
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    // 대기 중에 취소되었으면 false 를 반환하고 실행하지 않는다.
+    public synchronized boolean start() {
+        if (cancelRequested) {
+            return false;
+        }
+        this.status = RecommendationJobStatus.RUNNING;
+        return true;
+    }
+
+    public synchronized void complete(RecommendedTimetableResponse result) {
+        if (cancelRequested) {
+            finish(RecommendationJobStatus.CANCELLED); // 중단된 탐색의 일부 결과는 버린다.
+            return;
+        }
+        this.result = result;
+        finish(RecommendationJobStatus.COMPLETED);
+    }
+
+    public synchronized void fail(String errorMessage) {
+        if (cancelRequested) {
+            finish(RecommendationJobStatus.CANCELLED);
+            return;
+        }
+        this.errorMessage = errorMessage;
+        finish(RecommendationJobStatus.FAILED);
+    }
+
+    /**
+     * 취소를 요청한다. 대기 중이면 바로 CANCELLED 가 되고, 탐색 중이면 작업자가 탐색을 멈춘 뒤 CANCELLED 로 바꾼다.
+     * 이미 끝난 작업이면 아무것도 하지 않고 false 를 반환한다.
+     */
+    public synchronized boolean cancel() {
+        if (isFinished()) {
+            return false;
+        }
+        this.cancelRequested = true;
+        if (status == RecommendationJobStatus.QUEUED) {
+            finish(RecommendationJobStatus.CANCELLED);
+        }
+        return true;
+    }
+
+    private void finish(RecommendationJobStatus finalStatus) {
+        this.finishedAt = LocalDateTime.now();
+        this.status = finalStatus;
+    }
+}
@@ -0,0 +1,50 @@
+package com.cesco.scheduly.model;
+
+import com.cesco.scheduly.entity.SavedTimetableCourse;
+import com.cesco.scheduly.entity.SavedTimetableEntity;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저장된 시간표(SavedTimetableEntity) 조회용 읽기 전용 스냅샷.
+ * 과목 목록과 유형별 학점을 복사해 두고 지연 로딩되는 user 는 담지 않으므로, 캐시에 두고 트랜잭션 밖에서 읽어도 안전하다.
+ */
+@Getter
+public final class SavedTimetableSnapshot {
+
+    // 저장된 과목 한 줄. SavedTimetableCourse 와 같은 값
+    public record Course(String courseCode, String courseType, int credits) {
+    }
+
+    private final Long id;
+    private final List<Course> courses;
+    private final Map<String, Integer> creditsByType;
+    private final int totalCredits;
+    private final double score;
+    private final LocalDateTime savedAt;
+
+    private SavedTimetableSnapshot(SavedTimetableEntity saved) {
+        this.id = saved.getId();
+        this.courses = saved.getCourses().stream()
+                .map(SavedTimetableSnapshot::toCourse)
+                .toList();
+        this.creditsByType = Collections.unmodifiableMap(new LinkedHashMap<>(saved.getCreditsByType()));
+        this.totalCredits = saved.getTotalCredits();
+        this.score = saved.getScore();
+        this.savedAt = saved.getSavedAt();
+    }
+
+    // 과목 목록과 유형별 학점을 읽어야 하므로 두 컬렉션을 함께 읽은 엔티티(트랜잭션 안)로 만든다.
+    public static SavedTimetableSnapshot of(SavedTimetableEntity saved) {
+        return new SavedTimetableSnapshot(saved);
+    }
+
+    private static Course toCourse(SavedTimetableCourse course) {
+        return new Course(course.getCourseCode(), course.getCourseType(), course.getCredits());
+    }
+}
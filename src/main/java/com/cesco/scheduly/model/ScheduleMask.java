@@ -0,0 +1,109 @@
+package com.cesco.scheduly.model;
+
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * 한 과목(또는 시간표 전체)이 차지하는 요일/교시를 비트로 압축한 불변 값 객체.
+ * 요일마다 16비트(0~15교시)를 할당하여 월~목은 low, 금~일은 high 에 담는다.
+ * 두 마스크의 시간 충돌 여부는 long 두 개의 AND 연산으로 판단할 수 있다.
+ */
+@Getter
+@EqualsAndHashCode
+public final class ScheduleMask {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScheduleMask.class);
+
+    public static final ScheduleMask EMPTY = new ScheduleMask(0L, 0L);
+
+    private static final int PERIODS_PER_DAY = 16;
+    private static final int DAYS_PER_WORD = Long.SIZE / PERIODS_PER_DAY; // long 하나에 4일
+
+    private final long low;  // 월~목
+    private final long high; // 금~일
+
+    public ScheduleMask(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    // 알 수 없는 요일이나 0~15 밖의 교시는 마스크에 담을 수 없으므로, 경고를 남기고 해당 칸만 제외한다.
+    public static ScheduleMask of(List<TimeSlotDto> slots) {
+        if (slots == null || slots.isEmpty()) {
+            return EMPTY;
+        }
+        long low = 0L;
+        long high = 0L;
+        for (TimeSlotDto slot : slots) {
+            if (slot.getPeriods() == null) {
+                continue;
+            }
+            int dayIndex = dayIndex(slot.getDay());
+            if (dayIndex < 0) {
+                logger.warn("알 수 없는 요일이라 시간 충돌 검사에서 제외합니다: {}", slot);
+                continue;
+            }
+            for (Integer period : slot.getPeriods()) {
+                if (period == null || period < 0 || period >= PERIODS_PER_DAY) {
+                    logger.warn("0~{}교시 범위를 벗어난 교시라 시간 충돌 검사에서 제외합니다: {}", PERIODS_PER_DAY - 1, slot);
+                    continue;
+                }
+                long bit = 1L << ((dayIndex % DAYS_PER_WORD) * PERIODS_PER_DAY + period);
+                if (dayIndex < DAYS_PER_WORD) {
+                    low |= bit;
+                } else {
+                    high |= bit;
+                }
+            }
+        }
+        return (low == 0L && high == 0L) ? EMPTY : new ScheduleMask(low, high);
+    }
+
+    // 강의 데이터는 "Mon" 형식이지만, 한글 요일("월")도 허용한다.
+    public static int dayIndex(String day) {
+        if (day == null) {
+            return -1;
+        }
+        return switch (day) {
+            case "Mon", "월" -> 0;
+            case "Tue", "화" -> 1;
+            case "Wed", "수" -> 2;
+            case "Thu", "목" -> 3;
+            case "Fri", "금" -> 4;
+            case "Sat", "토" -> 5;
+            case "Sun", "일" -> 6;
+            default -> -1;
+        };
+    }
+
+    public boolean isEmpty() {
+        return low == 0L && high == 0L;
+    }
+
+    public boolean overlaps(ScheduleMask other) {
+        return overlaps(other.low, other.high);
+    }
+
+    public boolean overlaps(long otherLow, long otherHigh) {
+        return (low & otherLow) != 0L || (high & otherHigh) != 0L;
+    }
+
+    // 이 마스크의 모든 교시가 other 안에 포함되는지 (선호 시간대 필터링용)
+    public boolean isSubsetOf(ScheduleMask other) {
+        return (low & ~other.low) == 0L && (high & ~other.high) == 0L;
+    }
+
+    public ScheduleMask union(ScheduleMask other) {
+        return new ScheduleMask(low | other.low, high | other.high);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduleMask[" + Long.toHexString(high) + ":" + Long.toHexString(low) + "]";
+    }
+}
@@ -0,0 +1,55 @@
+package com.cesco.scheduly.model;
+
+import com.cesco.scheduly.dto.timetable.CreditSettingsRequest;
+import com.cesco.scheduly.dto.timetable.TimePreferenceRequest;
+import com.cesco.scheduly.entity.User;
+import com.cesco.scheduly.entity.UserCourseSelectionEntity;
+import com.cesco.scheduly.entity.UserPreferenceEntity;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 시간표 추천에 필요한 사용자 입력(사용자 정보, 기수강/필수/재수강 과목, 시간·학점 설정)을 한 번에 읽어 둔 스냅샷.
+ * 과목 목록은 복사해 두므로 이후 DB가 바뀌어도 이 스냅샷은 바뀌지 않는다. user 와 설정 객체는 읽기 전용으로만 사용한다.
+ */
+@Getter
+public final class UserPlanningContext {
+
+    private final User user;
+    private final List<String> takenCourses;
+    private final List<String> mandatoryCourses;
+    private final List<String> retakeCourses;
+    private final TimePreferenceRequest timePreferences;
+    private final CreditSettingsRequest creditSettings;
+
+    public UserPlanningContext(User user, Collection<String> takenCourses, Collection<String> mandatoryCourses, Collection<String> retakeCourses,
+                               TimePreferenceRequest timePreferences, CreditSettingsRequest creditSettings) {
+        this.user = user;
+        this.takenCourses = copyOf(takenCourses);
+        this.mandatoryCourses = copyOf(mandatoryCourses);
+        this.retakeCourses = copyOf(retakeCourses);
+        this.timePreferences = Optional.ofNullable(timePreferences).orElseGet(TimePreferenceRequest::new);
+        this.creditSettings = Optional.ofNullable(creditSettings).orElseGet(CreditSettingsRequest::new);
+    }
+
+    public static UserPlanningContext of(User user, UserCourseSelectionEntity selection, UserPreferenceEntity preference) {
+        return new UserPlanningContext(user, selection.getTakenCourses(), selection.getMandatoryCourses(), selection.getRetakeCourses(),
+                preference.getTimePreferences(), preference.getCreditSettings());
+    }
+
+    public Long getUserId() {
+        return user.getId();
+    }
+
+    // null 값은 빼고 복사한다. (List.copyOf 는 null 을 허용하지 않음)
+    private static List<String> copyOf(Collection<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.cesco.scheduly.model;
+
+import com.cesco.scheduly.dto.timetable.CreditSettingsRequest;
+import com.cesco.scheduly.dto.timetable.TimePreferenceRequest;
+import com.cesco.scheduly.entity.UserPreferenceEntity;
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * 사용자 설정(UserPreferenceEntity) 조회용 읽기 전용 스냅샷.
+ * 지연 로딩되는 user 를 담지 않으므로 트랜잭션 밖이나 다른 요청에서 읽어도 LazyInitializationException 이 나지 않는다.
+ * 설정 객체는 캐시에서 여러 요청이 함께 보므로 읽기 전용으로만 사용한다.
+ */
+@Getter
+public final class UserPreferenceSnapshot {
+
+    private final TimePreferenceRequest timePreferences;
+    private final CreditSettingsRequest creditSettings;
+    private final String savedTimetableJson; // 이전 형식의 저장 시간표(JSON). 없으면 null
+
+    private UserPreferenceSnapshot(UserPreferenceEntity preference) {
+        this.timePreferences = Optional.ofNullable(preference.getTimePreferences()).orElseGet(TimePreferenceRequest::new);
+        this.creditSettings = Optional.ofNullable(preference.getCreditSettings()).orElseGet(CreditSettingsRequest::new);
+        this.savedTimetableJson = preference.getSavedTimetableJson();
+    }
+
+    public static UserPreferenceSnapshot of(UserPreferenceEntity preference) {
+        return new UserPreferenceSnapshot(preference);
+    }
+}
@@ -0,0 +1,47 @@
+package com.cesco.scheduly.model;
+
+import com.cesco.scheduly.entity.User;
+import com.cesco.scheduly.enums.College;
+import com.cesco.scheduly.enums.DoubleMajorType;
+import com.cesco.scheduly.enums.FusionMajorModule;
+import lombok.Getter;
+
+/**
+ * 사용자 정보(User) 조회용 읽기 전용 스냅샷. 비밀번호 해시는 담지 않는다.
+ * 엔티티가 아니므로 캐시에 두고 여러 요청이 함께 읽어도 영속성 컨텍스트와 엮이지 않는다.
+ */
+@Getter
+public final class UserProfileSnapshot {
+
+    private final Long id;
+    private final String studentId;
+    private final String name;
+    private final College college;
+    private final String major;
+    private final String doubleMajor;
+    private final DoubleMajorType doubleMajorType;
+    private final int grade;
+    private final int semester;
+    private final FusionMajorModule module1;
+    private final FusionMajorModule module2;
+    private final FusionMajorModule module3;
+
+    private UserProfileSnapshot(User user) {
+        this.id = user.getId();
+        this.studentId = user.getStudentId();
+        this.name = user.getName();
+        this.college = user.getCollege();
+        this.major = user.getMajor();
+        this.doubleMajor = user.getDoubleMajor();
+        this.doubleMajorType = user.getDoubleMajorType();
+        this.grade = user.getGrade();
+        this.semester = user.getSemester();
+        this.module1 = user.getModule1();
+        this.module2 = user.getModule2();
+        this.module3 = user.getModule3();
+    }
+
+    public static UserProfileSnapshot of(User user) {
+        return new UserProfileSnapshot(user);
+    }
+}
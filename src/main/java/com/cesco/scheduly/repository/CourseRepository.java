@@ -3,7 +3,6 @@ package com.cesco.scheduly.repository;
 import com.cesco.scheduly.entity.CourseEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,27 +11,9 @@ import java.util.List;
 public interface CourseRepository extends JpaRepository<CourseEntity, String> { // 엔티티와 PK 타입을 명시
 
     /**
-     * 동적 검색 쿼리. 과목명/학수번호, 개설영역, 학년으로 강의를 검색합니다.
-     * :query, :department, :grade 파라미터가 null이면 해당 조건은 무시됩니다.
-     * 기존 CourseDataService.searchCourses() 메소드를 대체합니다.
-     *
-     * @param query      검색어 (과목명 또는 학수번호)
-     * @param department 필터링할 개설영역
-     * @param grade      필터링할 학년
-     * @return 검색 조건에 맞는 CourseEntity 리스트
+     * 카탈로그 스냅샷용 전체 조회. 시간표 정보(scheduleSlots)를 fetch join 으로 함께 읽어
+     * 과목 수와 관계없이 쿼리 한 번으로 끝난다. (findAll 후 과목마다 time_slots 를 읽는 N+1 방지)
      */
-    @Query("SELECT c FROM CourseEntity c WHERE " +
-            "(:query IS NULL OR LOWER(c.courseName) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(c.courseCode) LIKE LOWER(CONCAT('%', :query, '%'))) AND " +
-            "(:department IS NULL OR c.specificMajor = :department) AND " +
-            "(:grade IS NULL OR c.grade = :grade)")
-    List<CourseEntity> searchCourses(@Param("query") String query,
-                                     @Param("department") String department,
-                                     @Param("grade") String grade);
-
-
-    // LectureFilterController에서 사용하던 기능을 대체
-    @Query("SELECT c.courseCode FROM CourseEntity c WHERE c.courseCode LIKE CONCAT(:prefix, '%')")
-    List<String> findCourseCodesStartingWith(@Param("prefix") String prefix);
-
-
+    @Query("SELECT DISTINCT c FROM CourseEntity c LEFT JOIN FETCH c.scheduleSlots")
+    List<CourseEntity> findAllWithSlots();
 }
\ No newline at end of file
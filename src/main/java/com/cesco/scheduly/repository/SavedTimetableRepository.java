@@ -0,0 +1,32 @@
+package com.cesco.scheduly.repository;
+
+import com.cesco.scheduly.entity.SavedTimetableEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedTimetableRepository extends JpaRepository<SavedTimetableEntity, Long> {
+
+    // 가장 최근에 저장한 시간표 번호. (user_id 색인만 읽는다)
+    @Query("SELECT MAX(t.id) FROM SavedTimetableEntity t WHERE t.user.id = :userId")
+    Optional<Long> findLatestIdByUserId(@Param("userId") Long userId);
+
+    // 저장한 순서의 역순(최근 것부터) 번호 목록
+    @Query("SELECT t.id FROM SavedTimetableEntity t WHERE t.user.id = :userId ORDER BY t.id DESC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    // 과목 목록과 유형별 학점까지 조인으로 함께 읽는다.
+    @EntityGraph(attributePaths = {"courses", "creditsByType"})
+    Optional<SavedTimetableEntity> findWithCoursesById(Long id);
+
+    @EntityGraph(attributePaths = {"courses", "creditsByType"})
+    List<SavedTimetableEntity> findByUser_IdOrderByIdDesc(Long userId);
+
+    Optional<SavedTimetableEntity> findByIdAndUser_Id(Long id, Long userId);
+}
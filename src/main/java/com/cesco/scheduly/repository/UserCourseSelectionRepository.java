@@ -3,11 +3,47 @@ package com.cesco.scheduly.repository;
 import com.cesco.scheduly.entity.UserCourseSelectionEntity;
 import com.cesco.scheduly.entity.User; // User 엔티티 사용
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserCourseSelectionRepository extends JpaRepository<UserCourseSelectionEntity, String> { // PK 타입은 selectionId(String)
     Optional<UserCourseSelectionEntity> findByUser(User user);
     Optional<UserCourseSelectionEntity> findByUser_Id(Long userId); // User의 PK 'id'를 기준으로 조회
+
+    // 과목 수만 필요할 때. 컬렉션을 읽지 않고 각 목록의 행 수만 센다.
+    interface CourseSelectionCounts {
+        int getTaken();
+        int getMandatory();
+        int getRetake();
+    }
+
+    @Query("SELECT SIZE(s.takenCourses) AS taken, SIZE(s.mandatoryCourses) AS mandatory, SIZE(s.retakeCourses) AS retake "
+            + "FROM UserCourseSelectionEntity s WHERE s.user.id = :userId")
+    Optional<CourseSelectionCounts> findCountsByUserId(@Param("userId") Long userId);
+
+    // 목록 하나만 필요할 때. 해당 컬렉션 테이블만 읽는다. (학수번호 순)
+    @Query("SELECT c FROM UserCourseSelectionEntity s JOIN s.takenCourses c WHERE s.user.id = :userId ORDER BY c")
+    List<String> findTakenCourseCodesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c FROM UserCourseSelectionEntity s JOIN s.mandatoryCourses c WHERE s.user.id = :userId ORDER BY c")
+    List<String> findMandatoryCourseCodesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT c FROM UserCourseSelectionEntity s JOIN s.retakeCourses c WHERE s.user.id = :userId ORDER BY c")
+    List<String> findRetakeCourseCodesByUserId(@Param("userId") Long userId);
+
+    // 기수강/필수/재수강 목록을 쿼리 한 번으로 읽는다. 각 행은 {목록 구분('T'/'M'/'R'), 학수번호}
+    // UNION ALL 결과는 순서가 보장되지 않으므로 목록별 조회와 같이 학수번호 순으로 정렬한다.
+    @Query(value = "SELECT 'T' AS kind, c.course_code FROM user_taken_courses c "
+            + "JOIN user_course_selections s ON s.selection_id = c.selection_id WHERE s.user_id = :userId "
+            + "UNION ALL SELECT 'M', c.course_code FROM user_mandatory_courses c "
+            + "JOIN user_course_selections s ON s.selection_id = c.selection_id WHERE s.user_id = :userId "
+            + "UNION ALL SELECT 'R', c.course_code FROM user_retake_courses c "
+            + "JOIN user_course_selections s ON s.selection_id = c.selection_id WHERE s.user_id = :userId "
+            + "ORDER BY kind, course_code",
+            nativeQuery = true)
+    List<Object[]> findCourseCodesByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
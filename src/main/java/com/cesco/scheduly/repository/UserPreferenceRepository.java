@@ -3,6 +3,8 @@ package com.cesco.scheduly.repository;
 import com.cesco.scheduly.entity.UserPreferenceEntity;
 import com.cesco.scheduly.entity.User; // User 엔티티 사용
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
@@ -10,4 +12,8 @@ import java.util.Optional;
 public interface UserPreferenceRepository extends JpaRepository<UserPreferenceEntity, String> { // PK 타입을 String(UUID) 또는 Long으로 결정
     Optional<UserPreferenceEntity> findByUser(User user);
     Optional<UserPreferenceEntity> findByUserId(Long userId); // User의 ID(Long)로 조회
+
+    // 설정과 사용자 정보를 조인으로 함께 읽는다.
+    @Query("SELECT p FROM UserPreferenceEntity p JOIN FETCH p.user WHERE p.user.id = :userId")
+    Optional<UserPreferenceEntity> findWithUserByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.enums.CatalogReloadState;
+import com.cesco.scheduly.model.CourseCatalog;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 관리자가 올린 강의 JSON으로 카탈로그를 서비스 중단 없이 교체한다.
+ * <p>
+ * 전용 스레드에서 JSON을 스트리밍으로 읽어 현재 카탈로그 스냅샷과 학수번호 기준으로 비교하고,
+ * 추가/수정/삭제된 과목만 DB에 배치로 반영한 뒤 새 스냅샷을 만들어 참조 하나로 교체한다.
+ * 요청은 반영 중에도 이전 스냅샷을 읽으므로 기다리지 않으며, 이미 시작한 추천 탐색은 시작할 때 받은 스냅샷으로 끝까지 진행한다.
+ * 재적재는 한 번에 하나만 실행된다.
+ */
+@Service
+public class CatalogReloadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogReloadService.class);
+
+    private final CourseDataService courseDataService;
+    private final CourseCatalogImporter courseCatalogImporter;
+    private final RecommendationCache recommendationCache;
+    private final TaskExecutor catalogReloadExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ReloadStatus status = ReloadStatus.IDLE;
+
+    public CatalogReloadService(CourseDataService courseDataService, CourseCatalogImporter courseCatalogImporter,
+                                RecommendationCache recommendationCache,
+                                @Qualifier("catalogReloadExecutor") TaskExecutor catalogReloadExecutor) {
+        this.courseDataService = courseDataService;
+        this.courseCatalogImporter = courseCatalogImporter;
+        this.recommendationCache = recommendationCache;
+        this.catalogReloadExecutor = catalogReloadExecutor;
+    }
+
+    // 재적재 진행 상태. 과목 수는 완료된 경우에만 채워진다.
+    public record ReloadStatus(CatalogReloadState state, Instant startedAt, Instant finishedAt,
+                               long fromVersion, long toVersion,
+                               int inserted, int updated, int deleted, int unchanged, int skipped,
+                               String errorMessage) {
+
+        static final ReloadStatus IDLE = new ReloadStatus(CatalogReloadState.IDLE, null, null, 0, 0, 0, 0, 0, 0, 0, null);
+
+        static ReloadStatus running(Instant startedAt, long fromVersion) {
+            return new ReloadStatus(CatalogReloadState.RUNNING, startedAt, null, fromVersion, 0, 0, 0, 0, 0, 0, null);
+        }
+
+        ReloadStatus failed(String errorMessage) {
+            return new ReloadStatus(CatalogReloadState.FAILED, startedAt, Instant.now(), fromVersion, 0, 0, 0, 0, 0, 0, errorMessage);
+        }
+    }
+
+    public ReloadStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * 재적재를 백그라운드에 등록하고 바로 반환한다. 이미 진행 중이면 본문을 읽지 않고 false 를 반환한다.
+     * json 은 요청 본문 스트림이며, 요청 스레드에서는 임시 파일로 옮겨 담기만 하고 파싱은 백그라운드 스레드에서 한다.
+     */
+    public boolean submit(InputStream json) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        status = ReloadStatus.running(Instant.now(), courseDataService.getCatalogVersion());
+        Path spooled = null;
+        try {
+            spooled = spool(json);
+            Path file = spooled;
+            catalogReloadExecutor.execute(() -> run(file));
+        } catch (IOException | RuntimeException e) {
+            status = status.failed(spooled == null ? "요청 본문을 받지 못했습니다." : "재적재 작업을 시작하지 못했습니다.");
+            deleteQuietly(spooled);
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    private void run(Path json) {
+        ReloadStatus started = status;
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(json))) {
+            status = reload(input, started);
+        } catch (Exception e) {
+            logger.error("강의 카탈로그 재적재 실패. 이전 카탈로그 v{} 를 계속 사용합니다.", started.fromVersion(), e);
+            status = started.failed(e.getMessage());
+        } finally {
+            deleteQuietly(json);
+            running.set(false);
+        }
+    }
+
+    // 요청 본문을 메모리에 모으지 않고 임시 파일로 복사한다. 재적재가 끝나면 run 에서 지운다.
+    private static Path spool(InputStream json) throws IOException {
+        Path file = Files.createTempFile("catalog-reload-", ".json");
+        try {
+            Files.copy(json, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("재적재 임시 파일을 지우지 못했습니다: {}", file);
+        }
+    }
+
+    private ReloadStatus reload(InputStream json, ReloadStatus started) throws IOException {
+        CourseCatalog current = courseDataService.getCatalog();
+        List<DetailedCourseInfo> inserts = new ArrayList<>();
+        List<DetailedCourseInfo> updates = new ArrayList<>();
+        Set<String> seenCodes = new HashSet<>();
+        int[] unchanged = new int[1];
+
+        // 바뀐 과목만 모은다. 본문은 임시 파일에서 스트리밍으로 읽고 그대로인 과목은 읽는 즉시 버리므로, 새 JSON 전체를 메모리에 들고 있지 않는다.
+        int skipped = courseCatalogImporter.parse(json, course -> {
+            seenCodes.add(course.getCourseCode());
+            DetailedCourseInfo existing = current.findByCode(course.getCourseCode());
+            if (existing == null) {
+                inserts.add(course);
+            } else if (!courseCatalogImporter.hasSameRows(existing, course)) {
+                updates.add(course);
+            } else {
+                unchanged[0]++;
+            }
+        });
+        List<String> deletes = new ArrayList<>();
+        for (DetailedCourseInfo course : current.getCourses()) {
+            if (!seenCodes.contains(course.getCourseCode())) {
+                deletes.add(course.getCourseCode());
+            }
+        }
+        logger.info("강의 카탈로그 v{} 대비 변경분: 추가 {}개, 수정 {}개, 삭제 {}개, 그대로 {}개",
+                current.getVersion(), inserts.size(), updates.size(), deletes.size(), unchanged[0]);
+
+        long toVersion = current.getVersion();
+        if (!inserts.isEmpty() || !updates.isEmpty() || !deletes.isEmpty()) {
+            CourseCatalogImporter.ApplyResult applied = courseCatalogImporter.applyChanges(inserts, updates, deletes);
+            logger.info("변경분 DB 반영 완료 ({}ms, 시간표 {}행)", applied.elapsedMillis(), applied.slots());
+
+            // 새 스냅샷과 색인을 모두 만든 뒤 참조 하나로 교체한다. 버전이 바뀌므로 이전 추천 결과 캐시는 더 이상 맞지 않는다.
+            toVersion = courseDataService.reloadCatalog().getVersion();
+            recommendationCache.invalidateAll();
+        }
+        return new ReloadStatus(CatalogReloadState.COMPLETED, started.startedAt(), Instant.now(),
+                current.getVersion(), toVersion, inserts.size(), updates.size(), deletes.size(), unchanged[0], skipped, null);
+    }
+}
@@ -0,0 +1,268 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 JSON(everytime_courses.json 형식)을 스트리밍으로 읽어 courses / time_slots 테이블에 JDBC 배치로 넣는다.
+ * <p>
+ * 파일 전체를 목록으로 읽지 않고 JsonParser 로 과목을 하나씩 읽어 batchSize 개씩 모아 넣는다.
+ * time_slots 의 id 는 DB 자동 증가에 맡기고 생성된 키를 돌려받지 않으므로 JDBC 배치가 그대로 적용된다.
+ * (JPA 의 IDENTITY 전략은 행마다 키를 돌려받아야 해서 배치가 꺼진다.)
+ * 전체 가져오기는 한 트랜잭션이며, 중간에 실패하면 아무것도 남지 않는다.
+ * 카탈로그 재적재(CatalogReloadService)는 같은 파서와 행 변환을 쓰되 학수번호 기준 변경분만 반영한다.
+ */
+@Component
+public class CourseCatalogImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseCatalogImporter.class);
+
+    private static final String INSERT_COURSE_SQL = "INSERT INTO courses (course_code, course_name, department_original, specific_major, "
+            + "group_id, generalized_type, credits, total_hours, grade, professor, classroom, remarks, is_restricted_course) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SLOT_SQL = "INSERT INTO time_slots (course_code, class_day, period) VALUES (?, ?, ?)";
+    // UPDATE 파라미터는 INSERT 와 같은 순서로 학수번호를 뺀 뒤 마지막에 학수번호를 붙인다.
+    private static final String UPDATE_COURSE_SQL = "UPDATE courses SET course_name = ?, department_original = ?, specific_major = ?, "
+            + "group_id = ?, generalized_type = ?, credits = ?, total_hours = ?, grade = ?, professor = ?, classroom = ?, remarks = ?, "
+            + "is_restricted_course = ? WHERE course_code = ?";
+    private static final String DELETE_SLOTS_SQL = "DELETE FROM time_slots WHERE course_code = ?";
+    private static final String DELETE_COURSE_SQL = "DELETE FROM courses WHERE course_code = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CourseDataService courseDataService; // 과목 유형 판정 로직 재사용
+
+    // 한 번에 넣는 과목 수 (시간표 행은 해당 과목들의 행을 모아 함께 넣는다)
+    @Value("${scheduly.catalog-import.batch-size:500}")
+    private int batchSize = 500;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public CourseCatalogImporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 CourseDataService courseDataService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.courseDataService = courseDataService;
+    }
+
+    // 가져오기 결과. skipped 는 같은 학수번호가 다시 나와 건너뛴 과목 수
+    public record ImportResult(int courses, int slots, int skipped, long elapsedMillis) {
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? 0 : (courses + slots) * 1000.0 / elapsedMillis;
+        }
+    }
+
+    // 변경분 반영 결과. slots 는 새로 넣은 시간표 행 수
+    public record ApplyResult(int inserted, int updated, int deleted, int slots, long elapsedMillis) {
+    }
+
+    public ImportResult importCourses(InputStream json) {
+        return transactionTemplate.execute(status -> {
+            try {
+                return stream(json);
+            } catch (IOException e) {
+                throw new IllegalStateException("강의 데이터 JSON을 읽는 중 오류가 발생했습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * JSON 배열을 과목 하나씩 읽어 onCourse 로 넘긴다. 학수번호가 없거나 앞에서 이미 나온 과목은 건너뛰고, 건너뛴 수를 반환한다.
+     * 파일 전체를 메모리에 올리지 않으므로 가져오기와 카탈로그 재적재가 함께 사용한다.
+     */
+    public int parse(InputStream json, Consumer<DetailedCourseInfo> onCourse) throws IOException {
+        Set<String> seenCodes = new HashSet<>();
+        int skipped = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("강의 데이터 JSON은 배열이어야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                DetailedCourseInfo course = objectMapper.readValue(parser, DetailedCourseInfo.class);
+                if (course.getCourseCode() == null || !seenCodes.add(course.getCourseCode())) {
+                    skipped++; // 학수번호가 PK 이므로 처음 나온 과목만 넣는다.
+                    continue;
+                }
+                onCourse.accept(course);
+            }
+        }
+        return skipped;
+    }
+
+    private ImportResult stream(InputStream json) throws IOException {
+        long startedAt = System.nanoTime();
+        List<Object[]> courseRows = new ArrayList<>(batchSize);
+        List<Object[]> slotRows = new ArrayList<>(batchSize * 4);
+        int[] counts = new int[2]; // 넣은 과목 수, 시간표 행 수
+
+        int skipped = parse(json, course -> {
+            courseRows.add(toCourseRow(course));
+            addSlotRows(course, slotRows);
+
+            if (courseRows.size() >= batchSize) {
+                counts[0] += courseRows.size();
+                counts[1] += slotRows.size();
+                flush(courseRows, slotRows);
+                logProgress(counts[0], counts[1], startedAt);
+            }
+        });
+        int courses = counts[0] + courseRows.size();
+        int slots = counts[1] + slotRows.size();
+        flush(courseRows, slotRows);
+
+        ImportResult result = new ImportResult(courses, slots, skipped, (System.nanoTime() - startedAt) / 1_000_000);
+        logger.info("강의 데이터 가져오기 완료: 과목 {}개, 시간표 {}행, 중복 건너뜀 {}개 ({}ms, {} rows/sec)",
+                result.courses(), result.slots(), result.skipped(), result.elapsedMillis(), String.format("%.0f", result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 학수번호 기준 변경분을 한 트랜잭션 안에서 batchSize 개씩 JDBC 배치로 반영한다.
+     * 시간표 행은 과목별로 지우고 다시 넣는다. 카탈로그 조회는 메모리 스냅샷을 쓰므로 반영 중에도 요청은 DB를 기다리지 않는다.
+     */
+    public ApplyResult applyChanges(List<DetailedCourseInfo> inserts, List<DetailedCourseInfo> updates, List<String> deletes) {
+        return transactionTemplate.execute(status -> {
+            long startedAt = System.nanoTime();
+            int slots = 0;
+
+            // 삭제: 시간표 행을 먼저 지워야 외래 키가 맞는다.
+            for (List<String> chunk : chunks(deletes)) {
+                List<Object[]> codes = chunk.stream().map(code -> new Object[]{code}).collect(Collectors.toList());
+                jdbcTemplate.batchUpdate(DELETE_SLOTS_SQL, codes);
+                jdbcTemplate.batchUpdate(DELETE_COURSE_SQL, codes);
+            }
+
+            // 수정: 과목 행은 UPDATE, 시간표 행은 지우고 다시 넣는다.
+            for (List<DetailedCourseInfo> chunk : chunks(updates)) {
+                List<Object[]> courseRows = new ArrayList<>(chunk.size());
+                List<Object[]> codes = new ArrayList<>(chunk.size());
+                List<Object[]> slotRows = new ArrayList<>(chunk.size() * 4);
+                for (DetailedCourseInfo course : chunk) {
+                    courseRows.add(toUpdateRow(course));
+                    codes.add(new Object[]{course.getCourseCode()});
+                    addSlotRows(course, slotRows);
+                }
+                jdbcTemplate.batchUpdate(UPDATE_COURSE_SQL, courseRows);
+                jdbcTemplate.batchUpdate(DELETE_SLOTS_SQL, codes);
+                slots += slotRows.size();
+                if (!slotRows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SLOT_SQL, slotRows);
+                }
+            }
+
+            // 추가
+            for (List<DetailedCourseInfo> chunk : chunks(inserts)) {
+                List<Object[]> courseRows = new ArrayList<>(chunk.size());
+                List<Object[]> slotRows = new ArrayList<>(chunk.size() * 4);
+                for (DetailedCourseInfo course : chunk) {
+                    courseRows.add(toCourseRow(course));
+                    addSlotRows(course, slotRows);
+                }
+                slots += slotRows.size();
+                flush(courseRows, slotRows);
+            }
+
+            return new ApplyResult(inserts.size(), updates.size(), deletes.size(), slots,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        });
+    }
+
+    // DB에 들어갈 과목 행과 시간표 행이 같으면 true. 시간표 행은 순서를 무시하고 비교한다.
+    public boolean hasSameRows(DetailedCourseInfo current, DetailedCourseInfo candidate) {
+        return Arrays.equals(toCourseRow(current), toCourseRow(candidate))
+                && slotKeys(current).equals(slotKeys(candidate));
+    }
+
+    private static List<String> slotKeys(DetailedCourseInfo course) {
+        List<Object[]> slotRows = new ArrayList<>();
+        addSlotRows(course, slotRows);
+        List<String> keys = new ArrayList<>(slotRows.size());
+        for (Object[] row : slotRows) {
+            keys.add(row[1] + ":" + row[2]);
+        }
+        Collections.sort(keys);
+        return keys;
+    }
+
+    private <T> List<List<T>> chunks(List<T> rows) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            chunks.add(rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+        return chunks;
+    }
+
+    // 과목 행을 먼저 넣어야 time_slots 의 외래 키가 맞는다.
+    private void flush(List<Object[]> courseRows, List<Object[]> slotRows) {
+        if (!courseRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_COURSE_SQL, courseRows);
+        }
+        if (!slotRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SLOT_SQL, slotRows);
+        }
+        courseRows.clear();
+        slotRows.clear();
+    }
+
+    private void logProgress(int courses, int slots, long startedAt) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        logger.info("강의 데이터 가져오는 중: 과목 {}개, 시간표 {}행 ({} rows/sec)",
+                courses, slots, String.format("%.0f", (courses + slots) * 1000.0 / elapsedMillis));
+    }
+
+    // groupId(학수번호 앞 7자리), 과목 유형, 추천 제한 여부는 기존 DataInitializer 규칙 그대로 채운다.
+    private Object[] toCourseRow(DetailedCourseInfo course) {
+        String code = course.getCourseCode();
+        String groupId = code.length() >= 7 ? code.substring(0, 7) : code;
+        String generalizedType = courseDataService.determineInitialGeneralizedType(course.getDepartmentOriginal());
+        boolean isRestricted = !(generalizedType.equals("교양") || generalizedType.equals("전공_후보"));
+        return new Object[]{
+                code, course.getCourseName(), course.getDepartmentOriginal(), course.getSpecificMajor(),
+                groupId, generalizedType, course.getCredits(), course.getTotalHours(), course.getGrade(),
+                course.getProfessor(), course.getClassroom(), course.getRemarks(), isRestricted
+        };
+    }
+
+    private Object[] toUpdateRow(DetailedCourseInfo course) {
+        Object[] row = toCourseRow(course);
+        Object[] updateRow = new Object[row.length];
+        System.arraycopy(row, 1, updateRow, 0, row.length - 1);
+        updateRow[row.length - 1] = row[0];
+        return updateRow;
+    }
+
+    private static void addSlotRows(DetailedCourseInfo course, List<Object[]> slotRows) {
+        if (course.getScheduleSlots() == null) {
+            return;
+        }
+        for (TimeSlotDto slot : course.getScheduleSlots()) {
+            if (slot.getPeriods() == null) continue;
+            for (Integer period : slot.getPeriods()) {
+                slotRows.add(new Object[]{course.getCourseCode(), slot.getDay(), period});
+            }
+        }
+    }
+}
@@ -5,58 +5,154 @@ import com.cesco.scheduly.dto.course.CourseInfo;
 import com.cesco.scheduly.dto.timetable.TimeSlotDto;
 import com.cesco.scheduly.entity.CourseEntity;
 import com.cesco.scheduly.entity.UserCourseSelectionEntity;
+import com.cesco.scheduly.enums.CourseSearchMode;
+import com.cesco.scheduly.model.CourseCatalog;
 import com.cesco.scheduly.model.DetailedCourseInfo;
 import com.cesco.scheduly.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
-@Transactional(readOnly = true)
 public class CourseDataService {
 
+    private static final Logger logger = LoggerFactory.getLogger(CourseDataService.class);
     private final CourseRepository courseRepository;
     private static final List<String> RESTRICTED_COURSE_KEYWORDS =
             List.of("군사학", "경상대학", "교직", "인문대학", "자연과학대학", "폴란드학과", "한국학과", "이공계열", "우크라이나학과", "그리스·불가리아학과",
                     "중앙아시아학과", "루마니아학과", "AI융합대학", "공과대학(공과계열)", "CULTURE&TECHNOLOGY융합대학", "체코·슬로바키아학과", "아프리카학부");
 
 
+    // 강의 카탈로그가 바뀔 때마다 증가. 추천 결과 캐시 키에 포함되어 카탈로그가 바뀌면 이전 추천 결과가 재사용되지 않는다.
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    // 카탈로그 스냅샷과 그로부터 만든 색인들. 항상 함께 만들어 한 번에 교체한다.
+    private record CatalogState(CourseCatalog catalog,
+                                CourseSearchIndex<DetailedCourseInfo> searchIndex, // 강의 검색용 n-gram 역색인
+                                CoursePrefixTrie prefixTrie) {                     // 학수번호 접두사 조회용 트리
+    }
+
+    // 메모리에 올려 둔 카탈로그 상태. 처음 조회할 때 한 번 DB에서 읽고, 이후 조회는 DB를 거치지 않는다.
+    private volatile CatalogState state;
+
+    // 강의 검색 결과 최대 개수 (관련도 상위 N개)
+    @Value("${scheduly.course-search.max-results:50}")
+    private int searchMaxResults = 50;
+
     public CourseDataService(CourseRepository courseRepository) {
         this.courseRepository = courseRepository;
     }
 
-    // TimetableService가 사용하는 메소드. DB에서 조회하여 DetailedCourseInfo 모델로 변환해준다.
-    public List<DetailedCourseInfo> getDetailedCourses() {
-        return courseRepository.findAll().stream()
+    public long getCatalogVersion() {
+        return getCatalog().getVersion();
+    }
+
+    // 강의 데이터를 DB에 넣거나 바꾼 뒤 호출. 새 스냅샷을 만들어 교체한다.
+    public void markCatalogChanged() {
+        reloadCatalog();
+    }
+
+    // 현재 카탈로그 스냅샷. 아직 읽지 않았으면 DB에서 읽어 만든다.
+    public CourseCatalog getCatalog() {
+        return currentState().catalog();
+    }
+
+    private CatalogState currentState() {
+        CatalogState current = state;
+        if (current == null) {
+            synchronized (this) { // 동시에 처음 조회해도 한 번만 읽는다.
+                if (state == null) {
+                    reloadCatalog();
+                }
+                current = state;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * DB에서 카탈로그 전체를 읽어 새 스냅샷으로 교체한다. 교체는 참조 하나를 바꾸는 것이므로,
+     * 이미 이전 스냅샷을 받은 요청은 끝까지 이전 스냅샷을 일관되게 본다.
+     * DB를 읽는 곳은 여기뿐이므로 트랜잭션도 여기에만 건다. (스냅샷 조회는 DB 커넥션을 잡지 않는다.)
+     */
+    @Transactional(readOnly = true)
+    public synchronized CourseCatalog reloadCatalog() {
+        List<DetailedCourseInfo> courses = courseRepository.findAllWithSlots().stream()
                 .map(this::entityToDetailedInfo)
                 .collect(Collectors.toList());
+        CourseCatalog reloaded = new CourseCatalog(catalogVersion.incrementAndGet(), courses);
+        CourseSearchIndex<DetailedCourseInfo> searchIndex = CourseSearchIndex.build(reloaded.getCourses(),
+                DetailedCourseInfo::getCourseName, DetailedCourseInfo::getCourseCode,
+                List.of(DetailedCourseInfo::getProfessor, DetailedCourseInfo::getSpecificMajor));
+        CoursePrefixTrie prefixTrie = CoursePrefixTrie.build(reloaded.getCourses().stream()
+                .map(DetailedCourseInfo::getCourseCode)
+                .collect(Collectors.toList()));
+        state = new CatalogState(reloaded, searchIndex, prefixTrie);
+        logger.info("강의 카탈로그 스냅샷 v{} 로드 ({}개)", reloaded.getVersion(), reloaded.size());
+        return reloaded;
+    }
+
+    // TimetableService가 사용하는 메소드. 메모리 스냅샷의 DetailedCourseInfo 목록(읽기 전용)을 반환한다.
+    public List<DetailedCourseInfo> getDetailedCourses() {
+        return getCatalog().getCourses();
     }
 
     public DetailedCourseInfo getDetailedCourseByCode(String courseCode) {
-        return courseRepository.findById(courseCode)
-                .map(this::entityToDetailedInfo)
-                .orElse(null);
+        return getCatalog().findByCode(courseCode);
+    }
+
+    // 여러 학수번호를 한 번에 조회한다. 입력 순서를 유지하고, 카탈로그에 없는 학수번호는 건너뛴다.
+    public List<DetailedCourseInfo> getDetailedCoursesByCodes(Collection<String> courseCodes) {
+        if (courseCodes == null || courseCodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        CourseCatalog current = getCatalog();
+        return courseCodes.stream()
+                .map(current::findByCode)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
 
-    // CourseController가 사용하는 메소드
+    // CourseController가 사용하는 메소드. 과목명/학수번호/교수명/세부전공에 검색어가 포함된 과목을 관련도 순으로 최대 N개 반환한다.
     public List<CourseInfo> searchCourses(String query, String department, String grade) {
-        return courseRepository.searchCourses(query, department, grade).stream()
-                .map(entity -> new CourseInfo(entity.getCourseCode(), entity.getCourseName(), entity.getDepartmentOriginal(), entity.getCredits(), entity.getGrade()))
+        return searchCourses(query, department, grade, CourseSearchMode.TEXT);
+    }
+
+    // mode 가 HANGUL 이면 과목명 초성/자모/약어로 검색한다. (예: "ㅈㄹㄱㅈ", "자구알")
+    public List<CourseInfo> searchCourses(String query, String department, String grade, CourseSearchMode mode) {
+        Predicate<DetailedCourseInfo> filter = course -> (department == null || department.equals(course.getSpecificMajor()))
+                && (grade == null || grade.equals(course.getGrade()));
+        return currentState().searchIndex().search(query, mode, filter, searchMaxResults).stream()
+                .map(course -> new CourseInfo(course.getCourseCode(), course.getCourseName(), course.getDepartmentOriginal(), course.getCredits(), course.getGrade()))
                 .collect(Collectors.toList());
     }
 
-    // LectureFilterController가 사용할 메소드 (기존 LectureDataService의 기능)
+    // LectureFilterController가 사용할 메소드 (기존 LectureDataService의 기능). 접두사 중 하나로 시작하는 학수번호를 중복 없이 정렬해 반환
     public List<String> findCoursesByPrefix(List<String> prefixes) {
-        return prefixes.stream()
-                .flatMap(prefix -> courseRepository.findCourseCodesStartingWith(prefix).stream())
-                .distinct()
-                .collect(Collectors.toList());
+        if (prefixes == null || prefixes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return currentState().prefixTrie().findByAnyPrefix(prefixes);
+    }
+
+    // 접두사가 많은 일괄 요청용. 접두사별로 일치하는 학수번호 목록을 요청 순서대로 반환
+    public Map<String, List<String>> findCoursesByEachPrefix(List<String> prefixes) {
+        if (prefixes == null || prefixes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return currentState().prefixTrie().findByEachPrefix(prefixes);
     }
 
     // DataInitializer에서 재사용하기 위해 public으로 유지
@@ -92,6 +188,7 @@ public class CourseDataService {
                 .collect(Collectors.toList());
 
         // 3. 최종 변환된 시간 정보(finalScheduleSlots)를 DetailedCourseInfo에 담아 반환합니다.
+        //    (생성자에서 시간 충돌 검사용 ScheduleMask도 함께 계산됩니다.)
         return new DetailedCourseInfo(
                 entity.getCourseCode(),
                 entity.getCourseName(),
@@ -111,15 +208,10 @@ public class CourseDataService {
     }
 
     public Map<String, List<DetailedCourseInfo>> getUserCourseDetails(UserCourseSelectionEntity selection) {
-        Function<List<String>, List<DetailedCourseInfo>> toDetails = courseCodes -> courseCodes.stream()
-                .map(this::getDetailedCourseByCode)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
         return Map.of(
-                "taken", toDetails.apply(selection.getTakenCourses()),
-                "mandatory", toDetails.apply(selection.getMandatoryCourses()),
-                "retake", toDetails.apply(selection.getRetakeCourses())
+                "taken", getDetailedCoursesByCodes(selection.getTakenCourses()),
+                "mandatory", getDetailedCoursesByCodes(selection.getMandatoryCourses()),
+                "retake", getDetailedCoursesByCodes(selection.getRetakeCourses())
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.cesco.scheduly.service;
+
+import java.util.*;
+
+/**
+ * 학수번호 압축 접두사 트리(radix trie). 카탈로그 스냅샷과 함께 만들고 이후 바뀌지 않는다.
+ * <p>
+ * 학수번호를 정렬해 두고, 각 노드는 자신의 하위 트리에 속한 학수번호의 정렬 배열 구간 [from, to) 을 가진다.
+ * 접두사 하나는 접두사 길이만큼만 내려가면 구간이 나오므로, 여러 접두사 요청은 구간들을 합치기만 하면 되고
+ * 학수번호를 하나씩 비교하거나 중복 제거용 집합을 만들 필요가 없다.
+ */
+final class CoursePrefixTrie {
+
+    private static final class Node {
+        final int labelEnd;    // 이 노드까지의 접두사 길이. 간선 라벨은 codes[from] 의 [부모 labelEnd, labelEnd) 구간
+        final int from;
+        final int to;
+        final char[] firstChars; // 자식 간선 라벨의 첫 글자 (정렬됨)
+        final Node[] children;
+
+        Node(int labelEnd, int from, int to, char[] firstChars, Node[] children) {
+            this.labelEnd = labelEnd;
+            this.from = from;
+            this.to = to;
+            this.firstChars = firstChars;
+            this.children = children;
+        }
+    }
+
+    private final String[] codes;
+    private final Node root;
+
+    private CoursePrefixTrie(String[] codes) {
+        this.codes = codes;
+        this.root = codes.length == 0 ? null : build(0, codes.length, 0);
+    }
+
+    static CoursePrefixTrie build(Collection<String> courseCodes) {
+        String[] codes = courseCodes.stream().filter(Objects::nonNull).distinct().sorted().toArray(String[]::new);
+        return new CoursePrefixTrie(codes);
+    }
+
+    // codes[from, to) 는 길이 depth 의 접두사를 공유한다. 공통 접두사를 더 늘린 뒤 다음 글자별로 자식을 만든다.
+    private Node build(int from, int to, int depth) {
+        int labelEnd = depth + commonPrefixLength(codes[from], codes[to - 1], depth);
+        List<Character> firstChars = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        int i = from;
+        while (i < to && codes[i].length() == labelEnd) {
+            i++; // 정렬되어 있으므로 접두사 자체인 학수번호는 구간 맨 앞에 하나만 있다.
+        }
+        while (i < to) {
+            char c = codes[i].charAt(labelEnd);
+            int j = i + 1;
+            while (j < to && codes[j].charAt(labelEnd) == c) {
+                j++;
+            }
+            firstChars.add(c);
+            children.add(build(i, j, labelEnd));
+            i = j;
+        }
+        char[] chars = new char[firstChars.size()];
+        for (int k = 0; k < chars.length; k++) {
+            chars[k] = firstChars.get(k);
+        }
+        return new Node(labelEnd, from, to, chars, children.toArray(new Node[0]));
+    }
+
+    private static int commonPrefixLength(String a, String b, int offset) {
+        int length = offset;
+        int max = Math.min(a.length(), b.length());
+        while (length < max && a.charAt(length) == b.charAt(length)) {
+            length++;
+        }
+        return length - offset;
+    }
+
+    // prefix 로 시작하는 학수번호의 정렬 배열 구간 {from, to}. 없으면 null
+    private int[] range(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (node != null) {
+            // 간선 라벨을 접두사와 비교
+            String label = codes[node.from];
+            int end = Math.min(node.labelEnd, prefix.length());
+            for (; position < end; position++) {
+                if (label.charAt(position) != prefix.charAt(position)) return null;
+            }
+            if (position == prefix.length()) {
+                return new int[]{node.from, node.to};
+            }
+            int child = Arrays.binarySearch(node.firstChars, prefix.charAt(position));
+            node = child >= 0 ? node.children[child] : null;
+        }
+        return null;
+    }
+
+    /**
+     * 접두사 중 하나라도 일치하는 학수번호를 중복 없이 정렬된 순서로 반환한다. 접두사 수만큼 트리를 내려가고 구간을 합친다.
+     */
+    List<String> findByAnyPrefix(Collection<String> prefixes) {
+        List<int[]> ranges = new ArrayList<>();
+        for (String prefix : prefixes) {
+            if (prefix == null) continue;
+            int[] range = range(prefix);
+            if (range != null) ranges.add(range);
+        }
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+
+        List<String> result = new ArrayList<>();
+        int covered = 0; // 이미 결과에 넣은 구간의 끝
+        for (int[] range : ranges) {
+            for (int i = Math.max(range[0], covered); i < range[1]; i++) {
+                result.add(codes[i]);
+            }
+            covered = Math.max(covered, range[1]);
+        }
+        return result;
+    }
+
+    // 접두사별 일치 학수번호. 입력 순서를 유지하며, 같은 접두사가 여러 번 와도 한 번만 담는다.
+    Map<String, List<String>> findByEachPrefix(Collection<String> prefixes) {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (String prefix : prefixes) {
+            if (prefix == null || result.containsKey(prefix)) continue;
+            int[] range = range(prefix);
+            result.put(prefix, range == null ? Collections.emptyList() : List.of(Arrays.copyOfRange(codes, range[0], range[1])));
+        }
+        return result;
+    }
+}
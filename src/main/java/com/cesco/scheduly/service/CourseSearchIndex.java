@@ -0,0 +1,404 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.enums.CourseSearchMode;
+import com.cesco.scheduly.util.HangulUtil;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * 과목 목록의 과목명, 학수번호(와 추가 필드)에 대한 글자 n-gram 역색인. 목록 하나로 만들고 이후 바뀌지 않는다.
+ * 강의 카탈로그 검색(DetailedCourseInfo)과 과거 개설 과목 검색(PastCourseDto)이 함께 사용한다.
+ * <p>
+ * 각 필드를 소문자로 바꾸고 공백을 뺀 뒤, 글자 1개(unigram)와 연속한 글자 2개(bigram)마다 그 글자를 가진 과목 번호의
+ * 정렬된 목록(posting list)을 만든다. 한글은 음절 단위로 그대로 쓴다. 검색어의 bigram 목록들을 짧은 것부터 교집합해
+ * 후보를 좁히고, 후보만 실제 부분 문자열 포함 여부를 확인한 뒤 관련도 순으로 상위 N개를 반환한다.
+ * <p>
+ * 한글 검색({@link #searchHangul})을 위해 과목명의 초성 문자열과 자모 분해 문자열도 미리 만들어 두고,
+ * 초성 문자열에 대한 별도 n-gram 색인을 둔다.
+ */
+final class CourseSearchIndex<T> {
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final List<T> courses;
+    private final String[][] fields; // fields[doc] = {과목명, 학수번호, 추가 필드...} (정규화된 값)
+    private final Map<String, int[]> byCode; // 정규화된 학수번호가 정확히 같은 과목들
+    private final Map<Character, int[]> unigrams;
+    private final Map<Integer, int[]> bigrams;
+    private final String[] chosungNames; // 과목명 초성. 예: "ㅈㄹㄱㅈ"
+    private final String[] jamoNames;    // 과목명 자모 분해. 예: "ㅈㅏㄹㅛㄱㅜㅈㅗ"
+    private final boolean[][] wordStarts; // wordStarts[doc][i] = 과목명의 i번째 글자가 단어의 첫 글자인지 (약어 검색용)
+    private final Map<Character, int[]> chosungUnigrams;
+    private final Map<Integer, int[]> chosungBigrams;
+
+    private CourseSearchIndex(List<T> courses, String[][] fields, Map<String, int[]> byCode,
+                              Map<Character, int[]> unigrams, Map<Integer, int[]> bigrams,
+                              String[] chosungNames, String[] jamoNames, boolean[][] wordStarts,
+                              Map<Character, int[]> chosungUnigrams, Map<Integer, int[]> chosungBigrams) {
+        this.courses = courses;
+        this.fields = fields;
+        this.byCode = byCode;
+        this.unigrams = unigrams;
+        this.bigrams = bigrams;
+        this.chosungNames = chosungNames;
+        this.jamoNames = jamoNames;
+        this.wordStarts = wordStarts;
+        this.chosungUnigrams = chosungUnigrams;
+        this.chosungBigrams = chosungBigrams;
+    }
+
+    /**
+     * extraFields 는 과목명/학수번호 다음으로 검색할 필드들이며, 앞에 둔 필드일수록 관련도가 높다.
+     */
+    static <T> CourseSearchIndex<T> build(List<T> courses, Function<T, String> nameOf, Function<T, String> codeOf,
+                                          List<Function<T, String>> extraFields) {
+        String[][] fields = new String[courses.size()][];
+        Map<String, List<Integer>> codeLists = new HashMap<>();
+        Map<Character, List<Integer>> unigramLists = new HashMap<>();
+        Map<Integer, List<Integer>> bigramLists = new HashMap<>();
+        String[] chosungNames = new String[courses.size()];
+        String[] jamoNames = new String[courses.size()];
+        boolean[][] wordStarts = new boolean[courses.size()][];
+        Map<Character, List<Integer>> chosungUnigramLists = new HashMap<>();
+        Map<Integer, List<Integer>> chosungBigramLists = new HashMap<>();
+
+        for (int doc = 0; doc < courses.size(); doc++) {
+            T course = courses.get(doc);
+            String name = nameOf.apply(course);
+            fields[doc] = new String[2 + extraFields.size()];
+            fields[doc][0] = normalize(name);
+            fields[doc][1] = normalize(codeOf.apply(course));
+            for (int f = 0; f < extraFields.size(); f++) {
+                fields[doc][2 + f] = normalize(extraFields.get(f).apply(course));
+            }
+            addPosting(codeLists, fields[doc][1], doc);
+            for (String field : fields[doc]) {
+                for (int i = 0; i < field.length(); i++) {
+                    addPosting(unigramLists, field.charAt(i), doc);
+                    if (i + 1 < field.length()) {
+                        addPosting(bigramLists, bigram(field.charAt(i), field.charAt(i + 1)), doc);
+                    }
+                }
+            }
+
+            chosungNames[doc] = HangulUtil.toChosung(fields[doc][0]);
+            jamoNames[doc] = HangulUtil.toJamo(fields[doc][0]);
+            wordStarts[doc] = wordStarts(name, fields[doc][0].length());
+            String chosung = chosungNames[doc];
+            for (int i = 0; i < chosung.length(); i++) {
+                addPosting(chosungUnigramLists, chosung.charAt(i), doc);
+                if (i + 1 < chosung.length()) {
+                    addPosting(chosungBigramLists, bigram(chosung.charAt(i), chosung.charAt(i + 1)), doc);
+                }
+            }
+        }
+        return new CourseSearchIndex<>(courses, fields, toArrays(codeLists), toArrays(unigramLists), toArrays(bigramLists),
+                chosungNames, jamoNames, wordStarts, toArrays(chosungUnigramLists), toArrays(chosungBigramLists));
+    }
+
+    // 정규화된(공백 제거) 과목명 기준으로, 각 글자가 공백/괄호/구분 기호 바로 뒤에 오는 단어 첫 글자인지 표시한다.
+    private static boolean[] wordStarts(String name, int normalizedLength) {
+        boolean[] starts = new boolean[normalizedLength];
+        if (name == null) {
+            return starts;
+        }
+        int position = 0;
+        boolean atBoundary = true;
+        for (int i = 0; i < name.length() && position < normalizedLength; i++) {
+            char c = name.charAt(i);
+            if (Character.isWhitespace(c)) {
+                atBoundary = true;
+                continue;
+            }
+            starts[position++] = atBoundary;
+            atBoundary = !Character.isLetterOrDigit(c);
+        }
+        return starts;
+    }
+
+    // 문서 번호를 오름차순으로 넣으므로, 마지막 값과 같은지만 보면 중복을 막을 수 있다.
+    private static <K> void addPosting(Map<K, List<Integer>> lists, K key, int doc) {
+        List<Integer> postings = lists.computeIfAbsent(key, k -> new ArrayList<>());
+        if (postings.isEmpty() || postings.get(postings.size() - 1) != doc) {
+            postings.add(doc);
+        }
+    }
+
+    private static <K> Map<K, int[]> toArrays(Map<K, List<Integer>> lists) {
+        Map<K, int[]> arrays = new HashMap<>(lists.size() * 2);
+        lists.forEach((key, postings) -> arrays.put(key, postings.stream().mapToInt(Integer::intValue).toArray()));
+        return arrays;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    // 소문자 변환 + 공백 제거. "자료 구조" 로 검색해도 "자료구조" 가 찾아지도록 한다.
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 검색어를 포함하고 filter 를 통과하는 과목을 관련도 순으로 최대 limit 개 반환한다.
+     * 검색어가 비어 있으면 filter 만 적용해 목록 순서대로 반환한다.
+     */
+    List<T> search(String query, Predicate<T> filter, int limit) {
+        String normalizedQuery = normalize(query);
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // 학수번호가 정확히 같은 과목이 limit 개 이상이면 가장 높은 점수이므로 더 볼 필요가 없다.
+        int[] exactCode = byCode.get(normalizedQuery);
+        if (exactCode != null && !normalizedQuery.isEmpty()) {
+            List<T> exact = new ArrayList<>(Math.min(limit, exactCode.length));
+            for (int i = 0; i < exactCode.length && exact.size() < limit; i++) {
+                T course = courses.get(exactCode[i]);
+                if (filter.test(course)) exact.add(course);
+            }
+            if (exact.size() >= limit) {
+                return exact;
+            }
+        }
+
+        // 점수가 음수이면 n-gram 은 모두 있지만 연속된 문자열로는 포함하지 않는 경우
+        return rank(candidates(normalizedQuery), filter, limit, !normalizedQuery.isEmpty(),
+                doc -> relevance(fields[doc], normalizedQuery));
+    }
+
+    /**
+     * mode 에 맞는 검색. TEXT 라도 검색어가 초성으로만 이루어져 있으면 한글 검색을 쓴다.
+     */
+    List<T> search(String query, CourseSearchMode mode, Predicate<T> filter, int limit) {
+        if (mode == CourseSearchMode.HANGUL || HangulUtil.isChosungOnly(normalize(query))) {
+            return searchHangul(query, filter, limit);
+        }
+        return search(query, filter, limit);
+    }
+
+    /**
+     * 한글 검색. 과목명만 대상으로 하며 다음 중 하나로 일치하면 찾는다.
+     * <ul>
+     *     <li>초성만 입력: 과목명 초성에 포함 ("ㅈㄹㄱㅈ" -> 자료구조와알고리즘)</li>
+     *     <li>자모 분해 문자열에 포함: 입력 중인 음절도 찾는다 ("자룍", "자료ㄱ" -> 자료구조)</li>
+     *     <li>약어: 검색어 음절이 단어 첫 글자부터 순서대로 나타남 ("자구알" -> 자료구조와알고리즘)</li>
+     * </ul>
+     * 점수는 앞쪽에서 일치할수록, 위 목록에서 앞의 방식일수록 높다.
+     */
+    List<T> searchHangul(String query, Predicate<T> filter, int limit) {
+        String normalizedQuery = normalize(query);
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        if (normalizedQuery.isEmpty()) {
+            return search(query, filter, limit);
+        }
+        if (HangulUtil.isChosungOnly(normalizedQuery)) {
+            return rank(chosungCandidates(normalizedQuery), filter, limit, true, doc -> {
+                int position = chosungNames[doc].indexOf(normalizedQuery);
+                return position >= 0 ? 500 - Math.min(position, 99) : -1;
+            });
+        }
+
+        String queryJamo = HangulUtil.toJamo(normalizedQuery);
+        boolean abbreviation = isAllSyllables(normalizedQuery) && normalizedQuery.length() >= 2;
+        int[] candidates = chosungCandidates(chosungKey(normalizedQuery));
+        if (abbreviation) {
+            candidates = union(candidates, syllableCandidates(normalizedQuery));
+        }
+        return rank(candidates, filter, limit, true, doc -> {
+            int position = jamoNames[doc].indexOf(queryJamo);
+            if (position >= 0) return 600 - Math.min(position, 99);
+            if (abbreviation && isAbbreviationOf(normalizedQuery, fields[doc][0], wordStarts[doc])) return 300;
+            return -1;
+        });
+    }
+
+    // 자모 검색 후보를 좁힐 초성 키. 홀로 입력된 모음이 나오면 그 앞까지만 쓴다. (모음은 초성 문자열에 없으므로)
+    private static String chosungKey(String query) {
+        int end = 0;
+        while (end < query.length() && !isVowelJamo(query.charAt(end))) {
+            end++;
+        }
+        return HangulUtil.toChosung(query.substring(0, end));
+    }
+
+    private static boolean isVowelJamo(char c) {
+        return c >= 'ㅏ' && c <= 'ㅣ';
+    }
+
+    private static boolean isAllSyllables(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!HangulUtil.isSyllable(value.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    // 첫 음절은 단어 첫 글자에서, 나머지 음절은 그 뒤에서 순서대로 찾는다.
+    private static boolean isAbbreviationOf(String query, String name, boolean[] starts) {
+        for (int start = 0; start < name.length(); start++) {
+            if (!starts[start] || name.charAt(start) != query.charAt(0)) continue;
+            int matched = 1;
+            for (int i = start + 1; i < name.length() && matched < query.length(); i++) {
+                if (name.charAt(i) == query.charAt(matched)) matched++;
+            }
+            if (matched == query.length()) return true;
+        }
+        return false;
+    }
+
+    // 초성 문자열 색인에서 key 를 포함할 수 있는 과목. key 가 비어 있으면 null(전체)
+    private int[] chosungCandidates(String key) {
+        return postingCandidates(key, chosungUnigrams, chosungBigrams);
+    }
+
+    // 검색어의 모든 음절을 (어느 필드에서든) 가진 과목. 약어 검색 후보
+    private int[] syllableCandidates(String query) {
+        int[] result = null;
+        for (int i = 0; i < query.length(); i++) {
+            int[] postings = unigrams.getOrDefault(query.charAt(i), NO_POSTINGS);
+            result = result == null ? postings : intersect(result, postings);
+            if (result.length == 0) break;
+        }
+        return result;
+    }
+
+    // null 은 전체를 뜻한다.
+    private static int[] union(int[] a, int[] b) {
+        if (a == null || b == null) {
+            return null;
+        }
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                out[n++] = a[i++];
+            } else if (i >= a.length || a[i] > b[j]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    // 후보(null 이면 전체) 중 filter 를 통과하고 점수가 0 이상인 과목을 점수 상위 limit 개까지 순서대로 반환한다.
+    private List<T> rank(int[] candidates, Predicate<T> filter, int limit, boolean preferShortNames, IntUnaryOperator scoreOf) {
+        PriorityQueue<Hit> top = new PriorityQueue<>(Hit.WORST_FIRST);
+        int candidateCount = candidates == null ? courses.size() : candidates.length;
+        for (int i = 0; i < candidateCount; i++) {
+            int doc = candidates == null ? i : candidates[i];
+            if (!filter.test(courses.get(doc))) continue;
+
+            int score = scoreOf.applyAsInt(doc);
+            if (score < 0) continue;
+
+            Hit hit = new Hit(doc, score, preferShortNames ? fields[doc][0].length() : 0);
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (Hit.WORST_FIRST.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(Hit.WORST_FIRST.reversed());
+        List<T> results = new ArrayList<>(ranked.size());
+        for (Hit hit : ranked) {
+            results.add(courses.get(hit.doc()));
+        }
+        return results;
+    }
+
+    // 후보 과목 번호 (오름차순). 검색어가 비어 있으면 null(전체)
+    private int[] candidates(String query) {
+        return postingCandidates(query, unigrams, bigrams);
+    }
+
+    private static int[] postingCandidates(String query, Map<Character, int[]> unigramPostings, Map<Integer, int[]> bigramPostings) {
+        if (query.isEmpty()) {
+            return null;
+        }
+        if (query.length() == 1) {
+            return unigramPostings.getOrDefault(query.charAt(0), NO_POSTINGS);
+        }
+        List<int[]> lists = new ArrayList<>(query.length() - 1);
+        for (int i = 0; i + 1 < query.length(); i++) {
+            int[] postings = bigramPostings.get(bigram(query.charAt(i), query.charAt(i + 1)));
+            if (postings == null) {
+                return NO_POSTINGS;
+            }
+            lists.add(postings);
+        }
+        lists.sort(Comparator.comparingInt(postings -> postings.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * 관련도 점수. 포함하지 않으면 -1.
+     * 학수번호 일치 > 과목명 일치 > 과목명 접두 > 학수번호 접두 > 과목명 포함(앞쪽일수록 높음) > 학수번호 포함 > 추가 필드(앞 필드 우선) 순이다.
+     */
+    private static int relevance(String[] docFields, String query) {
+        if (query.isEmpty()) {
+            return 0;
+        }
+        String name = docFields[0];
+        String code = docFields[1];
+        if (code.equals(query)) return 1000;
+        if (name.equals(query)) return 900;
+        if (name.startsWith(query)) return 800;
+        if (code.startsWith(query)) return 700;
+        int position = name.indexOf(query);
+        if (position >= 0) return 600 - Math.min(position, 99);
+        if (code.contains(query)) return 400;
+        for (int f = 2; f < docFields.length; f++) {
+            if (docFields[f].contains(query)) return 300 - f;
+        }
+        return -1;
+    }
+
+    // 점수가 높을수록, 점수가 같으면 과목명이 짧을수록, 그다음 카탈로그 순서가 앞설수록 좋은 결과
+    private record Hit(int doc, int score, int nameLength) {
+        static final Comparator<Hit> WORST_FIRST = Comparator.comparingInt(Hit::score)
+                .thenComparing(Comparator.comparingInt(Hit::nameLength).reversed())
+                .thenComparing(Comparator.comparingInt(Hit::doc).reversed());
+    }
+}
@@ -0,0 +1,59 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.model.RecommendationJob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버 메모리에 추천 작업을 보관하는 기본 저장소. 끝난 작업은 보관 시간이 지나면 새 작업이 저장될 때 정리된다.
+ */
+@Component
+@ConditionalOnProperty(name = "scheduly.recommendation.job-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRecommendationJobStore implements RecommendationJobStore {
+
+    private final ConcurrentHashMap<String, RecommendationJob> jobsById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> activeJobIdByUser = new ConcurrentHashMap<>();
+    private final long retentionMinutes;
+
+    public InMemoryRecommendationJobStore(@Value("${scheduly.recommendation.job-retention-minutes:10}") long retentionMinutes) {
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    @Override
+    public RecommendationJob saveIfNoActiveJob(RecommendationJob job) {
+        evictExpired();
+        // compute 는 같은 사용자에 대해 직렬화되므로, 동시에 여러 번 눌러도 진행 중 작업은 하나만 생긴다.
+        String activeJobId = activeJobIdByUser.compute(job.getUserId(), (userId, existingId) -> {
+            RecommendationJob existing = existingId != null ? jobsById.get(existingId) : null;
+            if (existing != null && !existing.isFinished()) {
+                return existingId;
+            }
+            jobsById.put(job.getJobId(), job);
+            return job.getJobId();
+        });
+        return jobsById.get(activeJobId);
+    }
+
+    @Override
+    public void update(RecommendationJob job) {
+        jobsById.put(job.getJobId(), job);
+        if (job.isFinished()) {
+            activeJobIdByUser.remove(job.getUserId(), job.getJobId());
+        }
+    }
+
+    @Override
+    public Optional<RecommendationJob> findById(String jobId) {
+        return Optional.ofNullable(jobsById.get(jobId));
+    }
+
+    private void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobsById.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,145 @@
+package com.cesco.scheduly.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * 시간표 탐색 트리의 상위 단계를 여러 하위 트리(Branch)로 나누어 전용 ForkJoinPool 에서 병렬로 탐색한다.
+ * <p>
+ * 각 하위 트리의 점수 상위 limit 개는 전위 순서의 자리(slot)에 저장되고, 모든 작업자가 끝난 뒤 하나로 병합된다.
+ * 작업자들은 점수 커트라인({@link TimetableSearchEngine.ScoreThreshold})을 공유하여,
+ * 다른 작업자가 이미 찾은 상위 limit 개를 넘을 수 없는 하위 트리는 탐색하지 않는다.
+ */
+@Component
+public class ParallelTimetableSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelTimetableSearch.class);
+
+    private static final int BRANCHES_PER_WORKER = 8; // 작업 훔치기(work stealing)를 위한 작업자당 하위 트리 수
+    private static final int MAX_SPLIT_LEVELS = 3;
+
+    private final ForkJoinPool searchPool;
+    private final int minCandidates;
+
+    public ParallelTimetableSearch(@Value("${scheduly.recommendation.parallelism:0}") int parallelism,
+                                   @Value("${scheduly.recommendation.parallel-min-candidates:64}") int minCandidates) {
+        int poolSize = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.searchPool = new ForkJoinPool(poolSize);
+        this.minCandidates = minCandidates;
+        logger.info("시간표 병렬 탐색 풀 생성 (병렬도 {}, 병렬 전환 후보 수 {})", poolSize, minCandidates);
+    }
+
+    // 후보가 적으면 분할 비용이 더 크므로 순차 탐색을 사용
+    boolean isWorthParallelizing(TimetableSearchEngine engine) {
+        return searchPool.getParallelism() > 1 && engine.getCandidateCount() >= minCandidates;
+    }
+
+    /**
+     * 점수 상위 limit 개를 병렬로 찾는다. 작업자들은 같은 예산을 공유하며, 각 하위 트리의 상위 limit 개를
+     * (점수 내림차순, 하위 트리 순서, 하위 트리 내 발견 순서)로 병합하므로 예산 안에서 끝나면 순차 탐색과 결과가 같다.
+     * 공유 커트라인은 어떤 작업자가 이미 그 점수 이상의 시간표를 limit 개 찾았을 때만 올라가므로, 전체 상위 limit 개를 버리지 않는다.
+     */
+    List<TimetableSearchEngine.ScoredTimetable> searchBest(TimetableSearchEngine engine, int limit,
+                                                           TimetableScorer scorer, SearchBudget budget) {
+        return searchBest(engine, limit, scorer, budget, () -> false, null);
+    }
+
+    /**
+     * onAccepted 는 어떤 하위 트리의 상위 limit 개에 새 시간표가 들어갈 때마다 작업자 스레드에서 호출되므로 스레드 안전해야 한다.
+     * (하위 트리 기준이므로 전체 상위 limit 개에 들지 못하는 시간표도 전달될 수 있다.)
+     */
+    List<TimetableSearchEngine.ScoredTimetable> searchBest(TimetableSearchEngine engine, int limit,
+                                                           TimetableScorer scorer, SearchBudget budget,
+                                                           BooleanSupplier stopCondition,
+                                                           Consumer<TimetableSearchEngine.ScoredTimetable> onAccepted) {
+        List<TimetableSearchEngine.Branch> branches =
+                engine.splitBranches(searchPool.getParallelism() * BRANCHES_PER_WORKER, MAX_SPLIT_LEVELS);
+        AtomicReferenceArray<List<TimetableSearchEngine.ScoredTimetable>> slots = new AtomicReferenceArray<>(branches.size());
+        AtomicLong nodesExpanded = new AtomicLong();
+        TimetableSearchEngine.ScoreThreshold threshold = new TimetableSearchEngine.ScoreThreshold();
+        BooleanSupplier stop = () -> budget.isExhausted() || stopCondition.getAsBoolean();
+
+        searchPool.invoke(new BranchRangeTask(index -> stop.getAsBoolean(), index -> {
+            TimetableSearchEngine worker = engine.fork();
+            slots.set(index, worker.searchBranchBest(branches.get(index), limit, scorer, budget, stop, threshold, onAccepted));
+            nodesExpanded.addAndGet(worker.getNodesExpanded());
+        }, 0, branches.size()));
+
+        record Ranked(TimetableSearchEngine.ScoredTimetable timetable, int branch) {
+        }
+        List<Ranked> ranked = new ArrayList<>();
+        for (int i = 0; i < slots.length(); i++) {
+            List<TimetableSearchEngine.ScoredTimetable> slot = slots.get(i);
+            if (slot == null) continue; // 예산 소진으로 시작하지 못한 하위 트리
+            for (TimetableSearchEngine.ScoredTimetable timetable : slot) {
+                ranked.add(new Ranked(timetable, i));
+            }
+        }
+        ranked.sort(Comparator
+                .comparingDouble((Ranked r) -> r.timetable().score()).reversed()
+                .thenComparingInt(Ranked::branch)
+                .thenComparingLong(r -> r.timetable().order()));
+
+        List<TimetableSearchEngine.ScoredTimetable> merged = new ArrayList<>();
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            TimetableSearchEngine.ScoredTimetable timetable = ranked.get(i).timetable();
+            merged.add(new TimetableSearchEngine.ScoredTimetable(timetable.courses(), timetable.score(), i));
+        }
+        logger.debug("병렬 점수 탐색 완료: 하위 트리 {}개, 탐색 노드 {}개, 예산 소진 {}",
+                branches.size(), nodesExpanded.get(), budget.isExhausted());
+        return merged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        searchPool.shutdownNow();
+    }
+
+    // 하위 트리 구간을 반으로 나누어 왼쪽(앞 순서)을 먼저 처리하고 오른쪽은 다른 작업자가 훔쳐가도록 fork 한다.
+    private static final class BranchRangeTask extends RecursiveTask<Void> {
+
+        private final IntPredicate skip;
+        private final IntConsumer searchBranch;
+        private final int from;
+        private final int to;
+
+        BranchRangeTask(IntPredicate skip, IntConsumer searchBranch, int from, int to) {
+            this.skip = skip;
+            this.searchBranch = searchBranch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Void compute() {
+            if (from >= to || skip.test(from)) {
+                return null;
+            }
+            if (to - from == 1) {
+                searchBranch.accept(from);
+                return null;
+            }
+            int mid = (from + to) >>> 1;
+            BranchRangeTask right = new BranchRangeTask(skip, searchBranch, mid, to);
+            right.fork();
+            new BranchRangeTask(skip, searchBranch, from, mid).compute();
+            right.join();
+            return null;
+        }
+    }
+}
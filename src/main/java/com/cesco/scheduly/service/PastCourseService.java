@@ -1,50 +1,111 @@
 package com.cesco.scheduly.service;
 
 import com.cesco.scheduly.dto.course.PastCourseDto;
+import com.cesco.scheduly.enums.CourseSearchMode;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class PastCourseService {
 
+    private static final Logger logger = LoggerFactory.getLogger(PastCourseService.class);
+    private static final int MAX_RESULTS = 20;
+
     private List<PastCourseDto> pastCourses = new ArrayList<>();
 
-    // 애플리케이션 시작 시 JSON 파일을 읽어 메모리에 저장
+    // 과목명/학수번호 n-gram 색인. 로드할 때 한 번 만든다.
+    private CourseSearchIndex<PastCourseDto> searchIndex = buildIndex(pastCourses);
+
+    // 과거 강의 바이너리 스냅샷 파일. 비어 있으면 스냅샷을 쓰지 않고 매번 JSON을 읽는다.
+    @Value("${scheduly.past-courses.snapshot-file:}")
+    private String snapshotFile = "";
+
+    // 애플리케이션 시작 시 과거 강의 목록을 메모리에 올린다. 스냅샷이 최신이면 JSON 파싱 없이 스냅샷을 읽는다.
     @PostConstruct
     public void loadPastCourses() {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             // JSON 파일 경로를 정확히 지정합니다.
             ClassPathResource resource = new ClassPathResource("data/courses_past.json");
-            this.pastCourses = objectMapper.readValue(resource.getInputStream(), new TypeReference<>() {});
+            // 스냅샷 확인에는 원본의 크기와 수정 시각만 쓰므로, 스냅샷이 최신이면 JSON 을 읽지 않는다.
+            PastCourseSnapshot.Source source = new PastCourseSnapshot.Source(resource.contentLength(), resource.lastModified());
+
+            List<PastCourseDto> loaded = readSnapshot(source);
+            if (loaded == null) {
+                ObjectMapper objectMapper = new ObjectMapper();
+                try (InputStream input = resource.getInputStream()) {
+                    loaded = objectMapper.readValue(input, new TypeReference<>() {});
+                }
+                writeSnapshot(loaded, source);
+            }
+            replaceCourses(loaded);
+        } catch (Exception e) {
+            logger.error("과거 강의 목록을 불러오지 못했습니다. 과거 강의 검색 결과가 비어 있게 됩니다.", e);
+        }
+    }
+
+    // 스냅샷이 없거나 원본 JSON과 맞지 않거나 읽을 수 없으면 null (JSON으로 대체)
+    private List<PastCourseDto> readSnapshot(PastCourseSnapshot.Source source) {
+        if (snapshotFile.isBlank()) {
+            return null;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            List<PastCourseDto> courses = PastCourseSnapshot.read(Path.of(snapshotFile), source);
+            if (courses != null) {
+                logger.info("과거 강의 스냅샷 로드: {}개 ({}ms)", courses.size(), (System.nanoTime() - startedAt) / 1_000_000);
+            }
+            return courses;
+        } catch (Exception e) {
+            logger.warn("과거 강의 스냅샷을 읽지 못해 JSON을 사용합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 스냅샷 쓰기에 실패해도 JSON에서 읽은 목록은 그대로 사용한다.
+    private void writeSnapshot(List<PastCourseDto> courses, PastCourseSnapshot.Source source) {
+        if (snapshotFile.isBlank()) {
+            return;
+        }
+        try {
+            PastCourseSnapshot.write(Path.of(snapshotFile), courses, source);
+            logger.info("과거 강의 스냅샷 생성: {} ({}개)", snapshotFile, courses.size());
         } catch (Exception e) {
-            // 실제 운영 시에는 로그를 남기는 것이 좋습니다.
-            e.printStackTrace();
+            logger.warn("과거 강의 스냅샷을 만들지 못했습니다: {}", e.getMessage());
         }
     }
 
-    // 메모리에 로드된 데이터를 기반으로 검색 수행
+    // 검색 대상 목록을 바꾸고 색인을 다시 만든다.
+    void replaceCourses(List<PastCourseDto> courses) {
+        this.pastCourses = courses;
+        this.searchIndex = buildIndex(courses);
+    }
+
+    private static CourseSearchIndex<PastCourseDto> buildIndex(List<PastCourseDto> courses) {
+        return CourseSearchIndex.build(courses, PastCourseDto::getCourseName, PastCourseDto::getCourseCode, List.of());
+    }
+
+    // 메모리에 로드된 데이터를 기반으로 검색 수행. 관련도(학수번호 일치 > 접두 > 과목명 시작 > 포함) 상위 20개를 반환
     public List<PastCourseDto> search(String query) {
+        return search(query, CourseSearchMode.TEXT);
+    }
+
+    // mode 가 HANGUL 이면 과목명 초성/자모/약어로 검색한다.
+    public List<PastCourseDto> search(String query, CourseSearchMode mode) {
         if (query == null || query.isBlank() || query.length() < 2) {
             return Collections.emptyList(); // 너무 짧은 검색어는 무시
         }
-
-        String lowerCaseQuery = query.toLowerCase();
-
-        return pastCourses.stream()
-                .filter(course ->
-                        (course.getCourseName() != null && course.getCourseName().toLowerCase().contains(lowerCaseQuery)) ||
-                                (course.getCourseCode() != null && course.getCourseCode().toLowerCase().contains(lowerCaseQuery))
-                )
-                .limit(20) // 검색 결과가 너무 많지 않도록 최대 20개로 제한
-                .collect(Collectors.toList());
+        return searchIndex.search(query, mode, course -> true, MAX_RESULTS);
     }
 }
\ No newline at end of file
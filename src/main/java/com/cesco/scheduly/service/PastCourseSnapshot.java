@@ -0,0 +1,175 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.course.PastCourseDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 과거 개설 강의 목록(courses_past.json)의 바이너리 스냅샷. 첫 기동 때 JSON을 읽은 뒤 만들어 두고,
+ * 이후 기동은 파일을 메모리 매핑해 읽어 JSON 파싱을 건너뛴다.
+ * <p>
+ * 형식(big-endian): 헤더 [magic, 형식 버전, 원본 JSON 크기, 원본 JSON 수정 시각, 본문 체크섬, 본문 길이] 뒤에
+ * 본문 [문자열 수, (UTF-8 길이 2바이트 + 바이트)*, 과목 수, (학수번호, 개설영역, 과목명, 교수명 문자열 번호)*] 이 온다.
+ * 문자열은 중복 없이 한 번만 저장하므로 반복되는 교수명/개설영역은 읽은 뒤에도 같은 String 인스턴스를 공유한다.
+ * 원본 JSON이 바뀌었거나(크기/수정 시각 불일치) 형식 버전이 다르거나 파일이 손상되었으면 읽지 않는다.
+ * 원본은 크기와 수정 시각만으로 비교하므로 스냅샷이 최신이면 JSON 파일을 한 번도 읽지 않는다.
+ */
+final class PastCourseSnapshot {
+
+    private static final int MAGIC = 0x53504353; // "SPCS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 8 + 4;
+    private static final int NULL_INDEX = -1;
+
+    // 스냅샷을 만든 원본 JSON 을 가리키는 값. 둘 중 하나라도 다르면 원본이 바뀐 것으로 본다.
+    record Source(long size, long lastModified) {
+    }
+
+    private PastCourseSnapshot() {
+    }
+
+    /**
+     * 스냅샷 파일을 쓴다. 같은 디렉터리의 임시 파일에 쓴 뒤 이름을 바꾸므로, 다른 프로세스가 반쯤 쓴 파일을 읽는 일은 없다.
+     */
+    static void write(Path file, List<PastCourseDto> courses, Source source) throws IOException {
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        int[] indexes = new int[courses.size() * 4];
+        for (int i = 0; i < courses.size(); i++) {
+            PastCourseDto course = courses.get(i);
+            indexes[i * 4] = indexOf(strings, course.getCourseCode());
+            indexes[i * 4 + 1] = indexOf(strings, course.getDepartment());
+            indexes[i * 4 + 2] = indexOf(strings, course.getCourseName());
+            indexes[i * 4 + 3] = indexOf(strings, course.getProfessor());
+        }
+
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeInt(strings.size());
+        for (String value : strings.keySet()) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            if (utf8.length > 0xFFFF) {
+                throw new IOException("스냅샷에 담기에는 너무 긴 문자열입니다: " + utf8.length + " bytes");
+            }
+            payload.writeShort(utf8.length);
+            payload.write(utf8);
+        }
+        payload.writeInt(courses.size());
+        for (int index : indexes) {
+            payload.writeInt(index);
+        }
+        payload.flush();
+        byte[] body = payloadBytes.toByteArray();
+
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(source.size())
+                .putLong(source.lastModified())
+                .putLong(crc.getValue())
+                .putInt(body.length);
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                ByteBuffer bodyBuffer = ByteBuffer.wrap(body);
+                while (bodyBuffer.hasRemaining()) {
+                    channel.write(bodyBuffer);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static int indexOf(Map<String, Integer> strings, String value) {
+        if (value == null) {
+            return NULL_INDEX;
+        }
+        return strings.computeIfAbsent(value, key -> strings.size());
+    }
+
+    /**
+     * 스냅샷을 메모리 매핑해 읽는다. 파일이 없거나 원본 크기/수정 시각 또는 형식 버전이 다르거나 내용이 손상되었으면 null 을 반환한다.
+     */
+    static List<PastCourseDto> read(Path file, Source source) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || buffer.getLong() != source.size() || buffer.getLong() != source.lastModified()) {
+                return null;
+            }
+            long payloadChecksum = buffer.getLong();
+            int payloadLength = buffer.getInt();
+            if (payloadLength != size - HEADER_BYTES) {
+                return null;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice());
+            if (crc.getValue() != payloadChecksum) {
+                return null;
+            }
+            return decode(buffer);
+        }
+    }
+
+    private static List<PastCourseDto> decode(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        byte[] scratch = new byte[0xFFFF];
+        for (int i = 0; i < strings.length; i++) {
+            int length = Short.toUnsignedInt(buffer.getShort());
+            buffer.get(scratch, 0, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        int count = buffer.getInt();
+        List<PastCourseDto> courses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PastCourseDto course = new PastCourseDto();
+            course.setCourseCode(stringAt(strings, buffer.getInt()));
+            course.setDepartment(stringAt(strings, buffer.getInt()));
+            course.setCourseName(stringAt(strings, buffer.getInt()));
+            course.setProfessor(stringAt(strings, buffer.getInt()));
+            courses.add(course);
+        }
+        return courses;
+    }
+
+    private static String stringAt(String[] strings, int index) {
+        return index == NULL_INDEX ? null : strings[index];
+    }
+}
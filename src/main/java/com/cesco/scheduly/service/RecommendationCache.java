@@ -0,0 +1,109 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.CreditSettingsRequest;
+import com.cesco.scheduly.dto.timetable.RecommendedTimetableResponse;
+import com.cesco.scheduly.dto.timetable.TimePreferenceRequest;
+import com.cesco.scheduly.entity.User;
+import com.cesco.scheduly.model.ScheduleMask;
+import com.cesco.scheduly.model.UserPlanningContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 사용자별 최근 추천 결과 캐시. 추천 입력 전체의 지문(fingerprint)이 같을 때만 결과를 재사용한다.
+ * <p>
+ * 지문에는 사용자 전공 정보, 과목 선택, 선호 시간대, 학점 설정, 카탈로그 버전이 들어가므로 입력이 바뀌면 자동으로 적중하지 않는다.
+ * 추가로 {@link UserService} 가 입력을 저장할 때 {@link #invalidate(Long)} 로 해당 사용자 항목을 바로 비운다.
+ * 항목 수는 최대 maxEntries 개(가장 오래 사용하지 않은 항목부터 제거)이며, ttl 이 지난 항목은 조회 시 버린다.
+ */
+@Component
+public class RecommendationCache {
+
+    private record Entry(String fingerprint, RecommendedTimetableResponse response, long expiresAtNanos) {
+    }
+
+    private final Map<Long, Entry> entries;
+    private final long ttlNanos;
+
+    public RecommendationCache(@Value("${scheduly.recommendation.cache.max-entries:1000}") int maxEntries,
+                               @Value("${scheduly.recommendation.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    RecommendedTimetableResponse get(Long userId, String fingerprint) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+            entries.remove(userId, entry);
+            return null;
+        }
+        return entry.fingerprint().equals(fingerprint) ? entry.response() : null;
+    }
+
+    void put(Long userId, String fingerprint, RecommendedTimetableResponse response) {
+        entries.put(userId, new Entry(fingerprint, response, System.nanoTime() + ttlNanos));
+    }
+
+    public void invalidate(Long userId) {
+        entries.remove(userId);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 추천 결과에 영향을 주는 입력만으로 만든 SHA-256 지문.
+     * 과목 선택 목록은 순서가 결과에 영향을 주지 않으므로 정렬하고, 선호 시간대는 비트마스크로 바꿔 표현 차이를 없앤다.
+     * 학점 목표는 유형 순서가 탐색 순서를 정하므로 순서를 그대로 유지한다.
+     */
+    static String fingerprint(UserPlanningContext context, long catalogVersion) {
+        User user = context.getUser();
+        TimePreferenceRequest timePreferences = context.getTimePreferences();
+        CreditSettingsRequest creditSettings = context.getCreditSettings();
+        ScheduleMask preferredMask = timePreferences.getPreferredTimeSlots() != null
+                ? ScheduleMask.of(timePreferences.getPreferredTimeSlots())
+                : ScheduleMask.EMPTY;
+        StringBuilder canonical = new StringBuilder()
+                .append(user.getId()).append('|')
+                .append(user.getMajor()).append('|')
+                .append(user.getDoubleMajor()).append('|')
+                .append(user.getDoubleMajorType()).append('|')
+                .append(sorted(context.getTakenCourses())).append('|')
+                .append(sorted(context.getMandatoryCourses())).append('|')
+                .append(sorted(context.getRetakeCourses())).append('|')
+                .append(preferredMask.getLow()).append(',').append(preferredMask.getHigh()).append('|')
+                .append(creditSettings.getCreditGoalsPerType()).append('|')
+                .append(creditSettings.getMinTotalCredits()).append('|')
+                .append(creditSettings.getMaxTotalCredits()).append('|')
+                .append(catalogVersion);
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static List<String> sorted(List<String> values) {
+        if (values == null) {
+            return Collections.emptyList();
+        }
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,87 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.exception.RecommendationQueueFullException;
+import com.cesco.scheduly.exception.ResourceNotFoundException;
+import com.cesco.scheduly.model.RecommendationJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 시간표 추천을 요청 스레드 밖의 제한된 스레드 풀에서 실행하는 비동기 작업 API.
+ * 같은 사용자가 진행 중인 작업이 있는 상태에서 다시 요청하면 새 작업을 만들지 않고 기존 작업을 돌려준다.
+ * 취소된 작업은 대기 중이면 실행되지 않고, 탐색 중이면 다음 예산 확인 시점에 탐색을 멈춘다.
+ */
+@Service
+public class RecommendationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationJobService.class);
+
+    private final TimetableService timetableService;
+    private final RecommendationJobStore jobStore;
+    private final TaskExecutor recommendationExecutor;
+
+    public RecommendationJobService(TimetableService timetableService, RecommendationJobStore jobStore,
+                                    @Qualifier("recommendationExecutor") TaskExecutor recommendationExecutor) {
+        this.timetableService = timetableService;
+        this.jobStore = jobStore;
+        this.recommendationExecutor = recommendationExecutor;
+    }
+
+    public RecommendationJob submit(Long userId) {
+        RecommendationJob candidate = RecommendationJob.queued(userId);
+        RecommendationJob job = jobStore.saveIfNoActiveJob(candidate);
+        if (!job.getJobId().equals(candidate.getJobId())) {
+            logger.info("User ID {}: 진행 중인 추천 작업 {} 에 합류", userId, job.getJobId());
+            return job;
+        }
+
+        try {
+            recommendationExecutor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            logger.warn("User ID {}: 추천 실행 대기열이 가득 차 작업 {} 거절", userId, job.getJobId());
+            job.fail("추천 요청이 많아 지금은 처리할 수 없습니다.");
+            jobStore.update(job);
+            throw new RecommendationQueueFullException("추천 요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        logger.info("User ID {}: 추천 작업 {} 등록", userId, job.getJobId());
+        return job;
+    }
+
+    public RecommendationJob getJob(Long userId, String jobId) {
+        return jobStore.findById(jobId)
+                .filter(job -> job.getUserId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("추천 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    public RecommendationJob cancel(Long userId, String jobId) {
+        RecommendationJob job = getJob(userId, jobId);
+        if (job.cancel()) {
+            jobStore.update(job); // 대기 중 취소라면 여기서 끝난 작업이 되어 새 작업을 등록할 수 있다.
+            logger.info("User ID {}: 추천 작업 {} 취소 요청 ({})", userId, jobId, job.getStatus());
+        }
+        return job;
+    }
+
+    private void run(RecommendationJob job) {
+        if (!job.start()) {
+            logger.info("User ID {}: 추천 작업 {} 은 대기 중에 취소되어 실행하지 않음", job.getUserId(), job.getJobId());
+            jobStore.update(job);
+            return;
+        }
+        jobStore.update(job);
+        try {
+            job.complete(timetableService.recommendTimetables(job.getUserId(), null, job::isCancelled));
+        } catch (IllegalArgumentException e) { // MandatoryCourseConflictException 포함
+            logger.warn("User ID {}: 추천 작업 {} 실패: {}", job.getUserId(), job.getJobId(), e.getMessage());
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            logger.error("User ID {}: 추천 작업 {} 중 심각한 오류", job.getUserId(), job.getJobId(), e);
+            job.fail("시간표 추천 중 내부 서버 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        jobStore.update(job);
+    }
+}
@@ -0,0 +1,22 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.model.RecommendationJob;
+
+import java.util.Optional;
+
+/**
+ * 추천 작업 저장소. 기본은 단일 서버용 {@link InMemoryRecommendationJobStore} 이며,
+ * 여러 서버가 작업을 공유해야 하면 이 인터페이스를 구현한 빈을 등록하고 scheduly.recommendation.job-store 를 memory 외의 값으로 설정한다.
+ */
+public interface RecommendationJobStore {
+
+    /**
+     * 사용자에게 아직 끝나지 않은 작업이 있으면 그 작업을, 없으면 job 을 저장한 뒤 job 을 반환한다. (원자적으로 수행되어야 함)
+     */
+    RecommendationJob saveIfNoActiveJob(RecommendationJob job);
+
+    // 작업 상태가 바뀔 때마다 호출된다. 끝난 작업이면 사용자의 진행 중 작업 표시를 해제해야 한다.
+    void update(RecommendationJob job);
+
+    Optional<RecommendationJob> findById(String jobId);
+}
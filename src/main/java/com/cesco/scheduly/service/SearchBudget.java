@@ -0,0 +1,82 @@
+package com.cesco.scheduly.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 번의 추천 요청이 사용할 수 있는 탐색 노드 수, 시간(ms), 힙 증가량 한도. 각 한도는 0 이하이면 제한하지 않는다.
+ * 병렬 탐색 시 여러 작업자가 같은 인스턴스를 공유하며 노드 수를 합산한다.
+ * 힙 증가량은 이 요청만이 아니라 JVM 전체의 사용량 변화이므로, 같은 입력이라도 잘리는 지점이 달라질 수 있다.
+ */
+final class SearchBudget {
+
+    // 예산이 바닥난 원인
+    enum Limit { NODES, TIME, MEMORY }
+
+    private final long maxNodes;
+    private final boolean timeLimited;
+    private final long deadlineNanos;
+    private final long maxMemoryBytes;
+    private final long baselineHeapBytes;
+    private final AtomicLong nodes = new AtomicLong();
+    private volatile Limit exhaustedBy;
+
+    SearchBudget(long maxNodes, long maxMillis) {
+        this(maxNodes, maxMillis, 0);
+    }
+
+    SearchBudget(long maxNodes, long maxMillis, long maxMemoryBytes) {
+        this.maxNodes = maxNodes > 0 ? maxNodes : Long.MAX_VALUE;
+        this.timeLimited = maxMillis > 0;
+        this.deadlineNanos = System.nanoTime() + (timeLimited ? maxMillis * 1_000_000L : 0L);
+        this.maxMemoryBytes = maxMemoryBytes > 0 ? maxMemoryBytes : Long.MAX_VALUE;
+        this.baselineHeapBytes = maxMemoryBytes > 0 ? usedHeapBytes() : 0L;
+    }
+
+    static SearchBudget unlimited() {
+        return new SearchBudget(0, 0, 0);
+    }
+
+    // 탐색한 노드 수를 반영하고, 한도를 넘었으면 false 를 반환한다.
+    boolean tryConsume(long expandedNodes) {
+        if (exhaustedBy != null) {
+            return false;
+        }
+        if (nodes.addAndGet(expandedNodes) > maxNodes) {
+            exhaust(Limit.NODES);
+        } else if (timeLimited && System.nanoTime() - deadlineNanos > 0) {
+            exhaust(Limit.TIME);
+        } else if (maxMemoryBytes != Long.MAX_VALUE && usedHeapBytes() - baselineHeapBytes > maxMemoryBytes) {
+            exhaust(Limit.MEMORY);
+        }
+        return exhaustedBy == null;
+    }
+
+    // 탐색이 끝난 뒤 남은 노드 수를 집계에만 반영한다. 이미 끝난 탐색이므로 한도 초과로 표시하지 않는다.
+    void record(long expandedNodes) {
+        nodes.addAndGet(expandedNodes);
+    }
+
+    boolean isExhausted() {
+        return exhaustedBy != null;
+    }
+
+    // 탐색을 중단시킨 한도. 끝까지 탐색했으면 null
+    Limit getExhaustedBy() {
+        return exhaustedBy;
+    }
+
+    long getConsumedNodes() {
+        return nodes.get();
+    }
+
+    private synchronized void exhaust(Limit limit) {
+        if (exhaustedBy == null) {
+            exhaustedBy = limit;
+        }
+    }
+
+    private static long usedHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,47 @@
+package com.cesco.scheduly.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 추천 탐색이 예산 한도에 걸린 횟수를 한도별로 집계한다. (/health/recommendation-search 로 조회)
+ */
+@Component
+public class SearchBudgetMetrics {
+
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong truncated = new AtomicLong();
+    private final AtomicLong nodeLimitTrips = new AtomicLong();
+    private final AtomicLong timeLimitTrips = new AtomicLong();
+    private final AtomicLong memoryLimitTrips = new AtomicLong();
+    private final AtomicLong nodesExpanded = new AtomicLong();
+
+    void record(SearchBudget budget) {
+        searches.incrementAndGet();
+        nodesExpanded.addAndGet(budget.getConsumedNodes());
+        SearchBudget.Limit limit = budget.getExhaustedBy();
+        if (limit == null) {
+            return;
+        }
+        truncated.incrementAndGet();
+        switch (limit) {
+            case NODES -> nodeLimitTrips.incrementAndGet();
+            case TIME -> timeLimitTrips.incrementAndGet();
+            case MEMORY -> memoryLimitTrips.incrementAndGet();
+        }
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        snapshot.put("searches", searches.get());
+        snapshot.put("truncated", truncated.get());
+        snapshot.put("nodeLimitTrips", nodeLimitTrips.get());
+        snapshot.put("timeLimitTrips", timeLimitTrips.get());
+        snapshot.put("memoryLimitTrips", memoryLimitTrips.get());
+        snapshot.put("nodesExpanded", nodesExpanded.get());
+        return snapshot;
+    }
+}
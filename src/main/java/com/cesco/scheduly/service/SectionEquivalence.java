@@ -0,0 +1,71 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.model.DetailedCourseInfo;
+
+import java.util.*;
+
+/**
+ * 탐색 전에 후보 풀에서 서로 바꿔도 시간표가 똑같아지는 분반들을 하나로 합친다.
+ * <p>
+ * 같은 유형 안에서 (groupId, 학점, 수업 시간 마스크)가 같은 분반은 같은 groupId 중복 금지 규칙 때문에 하나만 고를 수 있고,
+ * 무엇을 고르든 시간 충돌/학점/점수가 같다. 따라서 처음 나온 분반 하나만 대표로 탐색하고,
+ * 나머지는 최종 시간표를 만들 때 대표 과목의 대체 분반으로 펼친다. 대표는 원래 풀에서의 순서를 유지한다.
+ */
+final class SectionEquivalence {
+
+    private record SectionKey(String groupId, int credits, long maskLow, long maskHigh) {
+    }
+
+    private final Map<String, List<DetailedCourseInfo>> pools;
+    private final Map<DetailedCourseInfo, List<DetailedCourseInfo>> alternatives;
+    private final int collapsedCount;
+
+    private SectionEquivalence(Map<String, List<DetailedCourseInfo>> pools,
+                               Map<DetailedCourseInfo, List<DetailedCourseInfo>> alternatives,
+                               int collapsedCount) {
+        this.pools = pools;
+        this.alternatives = alternatives;
+        this.collapsedCount = collapsedCount;
+    }
+
+    // poolsByType 의 키는 사용자 기준으로 판정된 과목 유형이어야 한다.
+    static SectionEquivalence collapse(Map<String, List<DetailedCourseInfo>> poolsByType) {
+        Map<String, List<DetailedCourseInfo>> pools = new LinkedHashMap<>();
+        Map<DetailedCourseInfo, List<DetailedCourseInfo>> alternatives = new IdentityHashMap<>();
+        int collapsedCount = 0;
+
+        for (Map.Entry<String, List<DetailedCourseInfo>> entry : poolsByType.entrySet()) {
+            Map<SectionKey, DetailedCourseInfo> representatives = new HashMap<>();
+            List<DetailedCourseInfo> collapsed = new ArrayList<>();
+            for (DetailedCourseInfo course : entry.getValue()) {
+                String groupId = course.getGroupId() != null ? course.getGroupId() : course.getCourseCode();
+                SectionKey key = new SectionKey(groupId, course.getCredits(),
+                        course.getScheduleMask().getLow(), course.getScheduleMask().getHigh());
+                DetailedCourseInfo representative = representatives.putIfAbsent(key, course);
+                if (representative == null) {
+                    collapsed.add(course);
+                } else {
+                    alternatives.computeIfAbsent(representative, k -> new ArrayList<>()).add(course);
+                    collapsedCount++;
+                }
+            }
+            pools.put(entry.getKey(), collapsed);
+        }
+        return new SectionEquivalence(pools, alternatives, collapsedCount);
+    }
+
+    // 대표 분반만 남긴 유형별 후보 풀
+    Map<String, List<DetailedCourseInfo>> getPools() {
+        return pools;
+    }
+
+    // 대표 분반과 시간/학점이 같아 대신 수강할 수 있는 다른 분반들 (없으면 빈 목록)
+    List<DetailedCourseInfo> alternativesOf(DetailedCourseInfo representative) {
+        return alternatives.getOrDefault(representative, Collections.emptyList());
+    }
+
+    // 합쳐져서 탐색에서 빠진 분반 수
+    int getCollapsedCount() {
+        return collapsedCount;
+    }
+}
@@ -0,0 +1,99 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.model.ScheduleMask;
+
+/**
+ * 완성된 시간표의 만족도 점수를 계산한다. 시간표 전체의 점유 마스크와 총 학점만으로 계산하므로 탐색 중 할당이 없다.
+ * <ul>
+ *     <li>선호 시간대 적합도: 수업 교시 중 선호 시간대 안에 있는 비율</li>
+ *     <li>공강일: 월~금 중 수업이 없는 요일 수</li>
+ *     <li>우주공강: 같은 요일 첫 수업과 마지막 수업 사이의 빈 교시 수</li>
+ *     <li>학점: 최대 학점 목표까지 1학점마다 가산</li>
+ *     <li>이른/늦은 수업: 1~2교시, 10교시 이후 수업 교시 수</li>
+ * </ul>
+ * 1학점의 가산점이 공강일 하나보다 크므로, 다른 조건이 같다면 학점을 더 채운 시간표가 앞선다.
+ */
+final class TimetableScorer {
+
+    private static final double PREFERENCE_WEIGHT = 30.0;
+    private static final double FREE_DAY_WEIGHT = 8.0;
+    private static final double GAP_PENALTY = 2.0;
+    private static final double CREDIT_WEIGHT = 10.0; // 1학점당
+    private static final double EARLY_PENALTY = 1.5;
+    private static final double LATE_PENALTY = 1.0;
+
+    private static final int PERIODS_PER_DAY = 16;
+    private static final int WEEKDAYS = 5; // 월~금
+    private static final long DAY_BITS = 0xFFFFL;
+    private static final long EARLY_BITS = 0b110L;                     // 1~2교시
+    private static final long LATE_BITS = DAY_BITS & ~((1L << 10) - 1); // 10교시 이후
+
+    private final ScheduleMask preferredMask;
+    private final Integer maxTotalCredits;
+
+    TimetableScorer(ScheduleMask preferredMask, Integer maxTotalCredits) {
+        this.preferredMask = preferredMask != null ? preferredMask : ScheduleMask.EMPTY;
+        this.maxTotalCredits = maxTotalCredits;
+    }
+
+    double score(long occupiedLow, long occupiedHigh, int totalCredits) {
+        double score = 0.0;
+
+        int occupiedCount = Long.bitCount(occupiedLow) + Long.bitCount(occupiedHigh);
+        if (preferredMask.isEmpty() || occupiedCount == 0) {
+            score += PREFERENCE_WEIGHT;
+        } else {
+            int inPreferred = Long.bitCount(occupiedLow & preferredMask.getLow())
+                    + Long.bitCount(occupiedHigh & preferredMask.getHigh());
+            score += PREFERENCE_WEIGHT * inPreferred / occupiedCount;
+        }
+
+        score += creditScore(totalCredits);
+
+        for (int day = 0; day < WEEKDAYS + 2; day++) {
+            long bits = dayBits(occupiedLow, occupiedHigh, day);
+            if (bits == 0L) {
+                if (day < WEEKDAYS) score += FREE_DAY_WEIGHT;
+                continue;
+            }
+            int first = Long.numberOfTrailingZeros(bits);
+            int last = Long.SIZE - 1 - Long.numberOfLeadingZeros(bits);
+            int gaps = (last - first + 1) - Long.bitCount(bits);
+            score -= GAP_PENALTY * gaps;
+            score -= EARLY_PENALTY * Long.bitCount(bits & EARLY_BITS);
+            score -= LATE_PENALTY * Long.bitCount(bits & LATE_BITS);
+        }
+        return score;
+    }
+
+    /**
+     * 현재 점유 상태에 과목을 더해 총 학점이 최대 reachableCredits 가 되는 시간표들이 받을 수 있는 점수의 상한.
+     * 과목을 더하면 공강일은 줄기만 하고 이른/늦은 교시 감점은 늘기만 하므로 현재 값을 쓰고,
+     * 선호 시간대 적합도와 우주공강은 가장 좋은 경우(만점, 감점 없음)로 둔다.
+     */
+    double upperBound(long occupiedLow, long occupiedHigh, int reachableCredits) {
+        double bound = PREFERENCE_WEIGHT + creditScore(reachableCredits);
+        for (int day = 0; day < WEEKDAYS + 2; day++) {
+            long bits = dayBits(occupiedLow, occupiedHigh, day);
+            if (bits == 0L) {
+                if (day < WEEKDAYS) bound += FREE_DAY_WEIGHT;
+                continue;
+            }
+            bound -= EARLY_PENALTY * Long.bitCount(bits & EARLY_BITS);
+            bound -= LATE_PENALTY * Long.bitCount(bits & LATE_BITS);
+        }
+        return bound;
+    }
+
+    // 최대 학점 목표를 넘는 학점은 더 가산하지 않는다.
+    private double creditScore(int totalCredits) {
+        int counted = maxTotalCredits != null && maxTotalCredits > 0 ? Math.min(totalCredits, maxTotalCredits) : totalCredits;
+        return CREDIT_WEIGHT * Math.max(0, counted);
+    }
+
+    private static long dayBits(long low, long high, int day) {
+        int daysPerWord = Long.SIZE / PERIODS_PER_DAY;
+        long word = day < daysPerWord ? low : high;
+        return (word >>> ((day % daysPerWord) * PERIODS_PER_DAY)) & DAY_BITS;
+    }
+}
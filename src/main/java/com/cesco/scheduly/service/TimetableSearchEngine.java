@@ -0,0 +1,606 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.CreditRangeDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.cesco.scheduly.model.ScheduleMask;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * 유형별 후보 과목 풀에서 학점/시간 조건을 만족하는 시간표 조합을 찾는 분기 한정(branch-and-bound) 탐색기.
+ * <p>
+ * 하나의 점유 마스크(occupiedLow/High), 유형별 학점 카운터 배열, 과목 스택을 제자리에서 push/pop 하며 탐색하므로
+ * 부분 조합 리스트를 만들지 않고, 점수 상위 limit 개에 들어가는 시간표만 복사한다.
+ * 방문 순서는 유형 순서 → 풀 인덱스 순서의 전위 순회이며, 점수가 같으면 먼저 방문한 시간표가 앞선다.
+ * 상위 limit 개가 채워진 뒤에는 {@link TimetableScorer#upperBound} 로 구한 점수 상한이 커트라인에 못 미치는 하위 트리를 버린다.
+ * <p>
+ * 요청 하나당 인스턴스 하나를 생성하여 사용한다. (스레드 안전하지 않음)
+ * 병렬 탐색 시에는 {@link #splitBranches(int, int)} 로 상위 결정 트리를 나눈 뒤,
+ * 각 작업자가 {@link #fork()} 로 만든 복사본에서 {@link #searchBranchBest} 를 실행한다.
+ */
+final class TimetableSearchEngine {
+
+    private final List<DetailedCourseInfo> baseTimetable;
+    private final int typeCount;
+
+    // 유형별 후보 풀 (원시 배열로 펼쳐 둠)
+    private final DetailedCourseInfo[][] poolCourses;
+    private final long[][] poolMaskLow;
+    private final long[][] poolMaskHigh;
+    private final int[][] poolCredits;
+    private final int[][] poolGroups;
+    private final int[][] suffixCredits; // suffixCredits[t][i] = 풀 t의 i번째 이후 과목 학점 합 (도달 가능한 학점 상한)
+    private final TypePlanCache.TypePlan[] plans; // 유형별 공유 부분 조합 트리 (null 이면 유형 안에서도 직접 확장)
+
+    // 학점 조건
+    private final int[] typeMin;
+    private final int[] typeMax;
+    private final int[] potentialAfter; // potentialAfter[t] = t 이후 유형들에서 추가로 얻을 수 있는 학점 상한
+    private final int minTotal;
+    private final int maxTotal;
+
+    // 탐색 상태 (push/pop 으로 제자리 갱신)
+    private final int[] typeCredits;
+    private final boolean[] groupUsed;
+    private final DetailedCourseInfo[] stack;
+    private final int[][] planPicked; // 트리로 탐색 중인 유형별로 현재 고른 풀 인덱스
+    private int depth;
+    private int totalCredits;
+    private long occupiedLow;
+    private long occupiedHigh;
+
+    private static final BooleanSupplier NEVER_STOP = () -> false;
+    private static final int BUDGET_CHECK_INTERVAL = 1024; // 이 노드 수마다 예산(노드/시간)을 확인
+    private static final double BOUND_SLACK = 1e-9; // 상한과 실제 점수의 부동소수점 합산 순서 차이 흡수
+
+    // 결과 수집: 점수 상위 limit 개를 최소 힙으로 유지
+    private PriorityQueue<ScoredTimetable> best;
+    private TimetableScorer scorer;
+    private SearchBudget budget;
+    private ScoreThreshold sharedThreshold; // 병렬 탐색 시 작업자들이 함께 올리는 커트라인 (순차 탐색은 null)
+    private int limit;
+    private long found;
+    private long nodesExpanded;
+    private boolean budgetExhausted;
+    private BooleanSupplier stopCondition = NEVER_STOP;
+    private Consumer<ScoredTimetable> onAccepted; // 점수 상위 limit 개에 새로 들어간 시간표를 즉시 알림 (스트리밍용, 없으면 null)
+
+    /**
+     * 점수가 매겨진 시간표. order 는 발견 순서로, 점수가 같으면 먼저 찾은 시간표가 앞선다.
+     */
+    record ScoredTimetable(List<DetailedCourseInfo> courses, double score, long order) {
+
+        static final Comparator<ScoredTimetable> BEST_FIRST = Comparator
+                .comparingDouble(ScoredTimetable::score).reversed()
+                .thenComparingLong(ScoredTimetable::order);
+    }
+
+    /**
+     * 병렬 작업자들이 공유하는 점수 커트라인. 한 작업자의 힙이 가득 차면 그 힙의 최저 점수 이상인 시간표가 이미 limit 개 있으므로,
+     * 이 값보다 점수 상한이 낮은 하위 트리는 어느 작업자에게서도 전체 상위 limit 개에 들어갈 수 없다. 값은 올라가기만 한다.
+     */
+    static final class ScoreThreshold {
+
+        private final AtomicLong bits = new AtomicLong(Double.doubleToLongBits(Double.NEGATIVE_INFINITY));
+
+        double get() {
+            return Double.longBitsToDouble(bits.get());
+        }
+
+        void raiseTo(double score) {
+            long candidate = Double.doubleToLongBits(score);
+            bits.accumulateAndGet(candidate,
+                    (current, next) -> Double.longBitsToDouble(next) > Double.longBitsToDouble(current) ? next : current);
+        }
+    }
+
+    /**
+     * 탐색 트리의 한 노드에서 시작하는 하위 트리. 루트 상태에서 (pushTypes[k], pushIndices[k]) 과목들을 차례로 넣은 뒤
+     * 유형 type 의 start 번째 후보부터 탐색을 이어간다. (type == 유형 수 이면 완성된 시간표 검사만 수행)
+     */
+    record Branch(int[] pushTypes, int[] pushIndices, int type, int start) {
+    }
+
+    TimetableSearchEngine(List<DetailedCourseInfo> baseTimetable,
+                          Map<String, List<DetailedCourseInfo>> poolsByType,
+                          List<String> targetTypes,
+                          Map<String, CreditRangeDto> creditGoals,
+                          Map<String, Integer> baseCreditsByType,
+                          Integer minTotalCredits,
+                          Integer maxTotalCredits) {
+        this(baseTimetable, poolsByType, targetTypes, creditGoals, baseCreditsByType, minTotalCredits, maxTotalCredits,
+                null, SearchBudget.unlimited());
+    }
+
+    /**
+     * planCache 가 있으면 유형별 풀의 부분 조합 트리를 캐시에서 가져오거나 만들어 공유한다. 결과와 순서는 캐시가 없을 때와 같다.
+     * 캐시에 없어 새로 만드는 트리의 노드는 planBudget(보통 이 요청의 탐색 예산)에 합산되고, 도중에 예산이 바닥나면
+     * 그 유형은 트리 없이 직접 확장한다. (예산이 이미 소진되었으므로 탐색은 첫 예산 확인에서 멈춘다.)
+     */
+    TimetableSearchEngine(List<DetailedCourseInfo> baseTimetable,
+                          Map<String, List<DetailedCourseInfo>> poolsByType,
+                          List<String> targetTypes,
+                          Map<String, CreditRangeDto> creditGoals,
+                          Map<String, Integer> baseCreditsByType,
+                          Integer minTotalCredits,
+                          Integer maxTotalCredits,
+                          TypePlanCache planCache,
+                          SearchBudget planBudget) {
+        this.baseTimetable = baseTimetable;
+        this.typeCount = targetTypes.size();
+        this.minTotal = minTotalCredits != null ? minTotalCredits : Integer.MIN_VALUE;
+        this.maxTotal = maxTotalCredits != null ? maxTotalCredits : Integer.MAX_VALUE;
+
+        this.poolCourses = new DetailedCourseInfo[typeCount][];
+        this.poolMaskLow = new long[typeCount][];
+        this.poolMaskHigh = new long[typeCount][];
+        this.poolCredits = new int[typeCount][];
+        this.poolGroups = new int[typeCount][];
+        this.suffixCredits = new int[typeCount][];
+        this.typeMin = new int[typeCount];
+        this.typeMax = new int[typeCount];
+        this.typeCredits = new int[typeCount];
+
+        Map<String, Integer> groupIndex = new HashMap<>();
+        int maxPoolSize = 0;
+        for (int t = 0; t < typeCount; t++) {
+            String type = targetTypes.get(t);
+            CreditRangeDto range = creditGoals != null ? creditGoals.get(type) : null;
+            // 범위가 없는 유형은 과목을 추가하지 않고 그대로 다음 유형으로 넘어간다.
+            List<DetailedCourseInfo> pool = range != null
+                    ? poolsByType.getOrDefault(type, Collections.emptyList())
+                    : Collections.emptyList();
+
+            typeMin[t] = range != null ? range.getMin() : Integer.MIN_VALUE;
+            typeMax[t] = range != null ? range.getMax() : Integer.MAX_VALUE;
+            typeCredits[t] = baseCreditsByType.getOrDefault(type, 0);
+
+            int size = pool.size();
+            poolCourses[t] = pool.toArray(new DetailedCourseInfo[0]);
+            poolMaskLow[t] = new long[size];
+            poolMaskHigh[t] = new long[size];
+            poolCredits[t] = new int[size];
+            poolGroups[t] = new int[size];
+            suffixCredits[t] = new int[size + 1];
+            for (int i = 0; i < size; i++) {
+                DetailedCourseInfo course = poolCourses[t][i];
+                ScheduleMask mask = course.getScheduleMask();
+                poolMaskLow[t][i] = mask.getLow();
+                poolMaskHigh[t][i] = mask.getHigh();
+                poolCredits[t][i] = course.getCredits();
+                String identifier = course.getGroupId() != null ? course.getGroupId() : course.getCourseCode();
+                poolGroups[t][i] = groupIndex.computeIfAbsent(identifier, k -> groupIndex.size());
+            }
+            for (int i = size - 1; i >= 0; i--) {
+                suffixCredits[t][i] = suffixCredits[t][i + 1] + poolCredits[t][i];
+            }
+            maxPoolSize += size;
+        }
+
+        this.potentialAfter = new int[typeCount + 1];
+        for (int t = typeCount - 1; t >= 0; t--) {
+            int room = typeMax[t] == Integer.MAX_VALUE ? 0 : Math.max(0, typeMax[t] - typeCredits[t]);
+            potentialAfter[t] = potentialAfter[t + 1] + Math.min(room, suffixCredits[t][0]);
+        }
+
+        this.groupUsed = new boolean[groupIndex.size()];
+        this.stack = new DetailedCourseInfo[maxPoolSize];
+
+        this.plans = new TypePlanCache.TypePlan[typeCount];
+        this.planPicked = new int[typeCount][];
+        if (planCache != null) {
+            for (int t = 0; t < typeCount; t++) {
+                if (poolCourses[t].length == 0) continue;
+                TypePlanCache.TypePlan plan = loadPlan(planCache, t, planBudget);
+                if (plan != null && plan != TypePlanCache.TypePlan.TOO_LARGE) {
+                    plans[t] = plan;
+                    planPicked[t] = new int[plan.maxDepth];
+                }
+            }
+        }
+
+        int baseTotal = 0;
+        long baseLow = 0L;
+        long baseHigh = 0L;
+        for (int credits : baseCreditsByType.values()) {
+            baseTotal += credits;
+        }
+        for (DetailedCourseInfo course : baseTimetable) {
+            baseLow |= course.getScheduleMask().getLow();
+            baseHigh |= course.getScheduleMask().getHigh();
+        }
+        this.totalCredits = baseTotal;
+        this.occupiedLow = baseLow;
+        this.occupiedHigh = baseHigh;
+    }
+
+    // 병렬 탐색용 복사본. 풀/학점 조건 배열은 공유하고 탐색 상태만 복제한다.
+    private TimetableSearchEngine(TimetableSearchEngine source) {
+        this.baseTimetable = source.baseTimetable;
+        this.typeCount = source.typeCount;
+        this.poolCourses = source.poolCourses;
+        this.poolMaskLow = source.poolMaskLow;
+        this.poolMaskHigh = source.poolMaskHigh;
+        this.poolCredits = source.poolCredits;
+        this.poolGroups = source.poolGroups;
+        this.suffixCredits = source.suffixCredits;
+        this.plans = source.plans;
+        this.typeMin = source.typeMin;
+        this.typeMax = source.typeMax;
+        this.potentialAfter = source.potentialAfter;
+        this.minTotal = source.minTotal;
+        this.maxTotal = source.maxTotal;
+
+        this.typeCredits = source.typeCredits.clone();
+        this.groupUsed = source.groupUsed.clone();
+        this.stack = source.stack.clone();
+        this.planPicked = new int[source.planPicked.length][];
+        for (int t = 0; t < planPicked.length; t++) {
+            planPicked[t] = source.planPicked[t] != null ? new int[source.planPicked[t].length] : null;
+        }
+        this.depth = source.depth;
+        this.totalCredits = source.totalCredits;
+        this.occupiedLow = source.occupiedLow;
+        this.occupiedHigh = source.occupiedHigh;
+    }
+
+    // 트리는 필수 과목을 고려하지 않으므로, 유형 범위에서 필수 과목 학점을 뺀 범위를 키로 쓴다.
+    private TypePlanCache.TypePlan loadPlan(TypePlanCache planCache, int t, SearchBudget planBudget) {
+        int base = typeCredits[t];
+        TypePlanCache.Key key = new TypePlanCache.Key(poolFingerprint(t), typeMin[t] - base, typeMax[t] - base);
+        return planCache.getOrBuild(key, () -> TypePlanCache.TypePlan.build(
+                poolCredits[t], poolMaskLow[t], poolMaskHigh[t], localGroups(t), poolCredits[t].length,
+                suffixCredits[t], key.minCredits(), key.maxCredits(), planCache.getMaxPlanNodes(), planBudget));
+    }
+
+    // 풀 안에서만 의미 있는 그룹 번호 (0부터). 전역 그룹 번호는 요청마다 달라 트리에 넣을 수 없다.
+    private int[] localGroups(int t) {
+        Map<Integer, Integer> local = new HashMap<>();
+        int[] groups = new int[poolGroups[t].length];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = local.computeIfAbsent(poolGroups[t][i], g -> local.size());
+        }
+        return groups;
+    }
+
+    // 풀의 과목 순서, 학수번호, 학점, 시간 마스크, 그룹 구성이 같으면 같은 지문이 나온다.
+    private String poolFingerprint(int t) {
+        StringBuilder canonical = new StringBuilder();
+        int[] groups = localGroups(t);
+        for (int i = 0; i < poolCourses[t].length; i++) {
+            canonical.append(poolCourses[t][i].getCourseCode()).append(':')
+                    .append(poolCredits[t][i]).append(':')
+                    .append(poolMaskLow[t][i]).append(':')
+                    .append(poolMaskHigh[t][i]).append(':')
+                    .append(groups[i]).append(';');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    TimetableSearchEngine fork() {
+        return new TimetableSearchEngine(this);
+    }
+
+    int getCandidateCount() {
+        int count = 0;
+        for (DetailedCourseInfo[] pool : poolCourses) {
+            count += pool.length;
+        }
+        return count;
+    }
+
+    /**
+     * 예산 안에서 가능한 한 많은 시간표를 탐색하며 점수 상위 limit 개를 점수 내림차순으로 반환한다.
+     * 예산이 바닥나면 그때까지 찾은 것 중 최선의 결과를 반환한다.
+     */
+    List<ScoredTimetable> searchBest(int limit, TimetableScorer scorer, SearchBudget budget) {
+        return searchBest(limit, scorer, budget, NEVER_STOP, null);
+    }
+
+    /**
+     * searchBest 와 같지만, 시간표가 상위 limit 개에 들어갈 때마다 onAccepted 로 바로 알리고
+     * stopCondition 이 true 를 반환하면 (예: 클라이언트 연결 종료) 즉시 중단한다.
+     */
+    List<ScoredTimetable> searchBest(int limit, TimetableScorer scorer, SearchBudget budget,
+                                     BooleanSupplier stopCondition, Consumer<ScoredTimetable> onAccepted) {
+        prepare(limit, scorer, budget, stopCondition, null, onAccepted);
+        run(rootBranch());
+        return drainBest();
+    }
+
+    /**
+     * 루트 상태에서 branch 하위 트리만 탐색하여 점수 상위 limit 개를 반환한다. 반환 목록의 order 는 이 하위 트리 안에서의 발견 순서이다.
+     * stopCondition 이 true 를 반환하면 즉시 중단하고, threshold 는 다른 작업자들과 공유하는 커트라인이다.
+     * 루트 상태를 보존해야 하므로 {@link #fork()} 로 만든 복사본에서 호출해야 한다.
+     */
+    List<ScoredTimetable> searchBranchBest(Branch branch, int limit, TimetableScorer scorer, SearchBudget budget,
+                                           BooleanSupplier stopCondition, ScoreThreshold threshold,
+                                           Consumer<ScoredTimetable> onAccepted) {
+        prepare(limit, scorer, budget, stopCondition, threshold, onAccepted);
+        run(branch);
+        return drainBest();
+    }
+
+    long getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    // 예산 부족으로 탐색을 끝까지 하지 못했는지 여부
+    boolean isBudgetExhausted() {
+        return budgetExhausted;
+    }
+
+    private Branch rootBranch() {
+        return new Branch(new int[0], new int[0], 0, 0);
+    }
+
+    private void prepare(int limit, TimetableScorer scorer, SearchBudget budget, BooleanSupplier stopCondition,
+                         ScoreThreshold sharedThreshold, Consumer<ScoredTimetable> onAccepted) {
+        this.limit = limit;
+        this.scorer = scorer;
+        this.budget = budget;
+        this.stopCondition = stopCondition;
+        this.sharedThreshold = sharedThreshold;
+        this.onAccepted = onAccepted;
+        this.best = new PriorityQueue<>(Math.max(1, limit), ScoredTimetable.BEST_FIRST.reversed());
+        this.found = 0;
+        this.nodesExpanded = 0;
+        this.budgetExhausted = false;
+    }
+
+    private void run(Branch branch) {
+        for (int k = 0; k < branch.pushTypes().length; k++) {
+            push(branch.pushTypes()[k], branch.pushIndices()[k]);
+        }
+        if (limit <= 0) {
+            return;
+        }
+        if (branch.type() >= typeCount || branch.start() == 0) {
+            searchType(branch.type());
+        } else {
+            expandType(branch.type(), branch.start());
+        }
+        budget.record(nodesExpanded % BUDGET_CHECK_INTERVAL);
+    }
+
+    private List<ScoredTimetable> drainBest() {
+        List<ScoredTimetable> sorted = new ArrayList<>(best);
+        sorted.sort(ScoredTimetable.BEST_FIRST);
+        return sorted;
+    }
+
+    /**
+     * 탐색 트리의 상위 노드를 전위 순서대로 펼쳐, 순서대로 이어 붙이면 전체 탐색과 같아지는 하위 트리 목록을 만든다.
+     * 목록 크기가 targetCount 이상이 되거나 maxLevels 단계까지 펼치면 멈춘다.
+     */
+    List<Branch> splitBranches(int targetCount, int maxLevels) {
+        List<Branch> frontier = List.of(rootBranch());
+        for (int level = 0; level < maxLevels && frontier.size() < targetCount; level++) {
+            List<Branch> next = new ArrayList<>();
+            boolean expanded = false;
+            for (Branch branch : frontier) {
+                if (branch.type() >= typeCount) {
+                    next.add(branch);
+                    continue;
+                }
+                fork().decompose(branch, next);
+                expanded = true;
+            }
+            frontier = next;
+            if (!expanded) break;
+        }
+        return frontier;
+    }
+
+    // expandType 한 단계를 실제 탐색 대신 자식 하위 트리 목록으로 펼침 (순서는 expandType 과 동일)
+    private void decompose(Branch branch, List<Branch> out) {
+        for (int k = 0; k < branch.pushTypes().length; k++) {
+            push(branch.pushTypes()[k], branch.pushIndices()[k]);
+        }
+        int t = branch.type();
+        int start = branch.start();
+        int credits = typeCredits[t];
+
+        if (credits >= typeMin[t] && credits <= typeMax[t]) {
+            out.add(new Branch(branch.pushTypes(), branch.pushIndices(), t + 1, 0));
+        }
+        if (credits >= typeMax[t] || !canReachMinTotal(t, start)) return;
+
+        for (int i = start; i < poolCredits[t].length; i++) {
+            if (credits + suffixCredits[t][i] < typeMin[t]) return;
+            if (!canPush(t, i)) continue;
+
+            int[] pushTypes = Arrays.copyOf(branch.pushTypes(), branch.pushTypes().length + 1);
+            int[] pushIndices = Arrays.copyOf(branch.pushIndices(), branch.pushIndices().length + 1);
+            pushTypes[pushTypes.length - 1] = t;
+            pushIndices[pushIndices.length - 1] = i;
+            out.add(new Branch(pushTypes, pushIndices, t, i + 1));
+        }
+    }
+
+    // 더 좋은 시간표가 있을 수 있으므로 limit 개를 찾아도 멈추지 않고, 예산 소진이나 중단 요청에서만 멈춘다.
+    private boolean isDone() {
+        return budgetExhausted || stopCondition.getAsBoolean();
+    }
+
+    private void searchType(int t) {
+        if (t >= typeCount) {
+            if (totalCredits >= minTotal && totalCredits <= maxTotal) {
+                offerScored();
+            }
+            return;
+        }
+        if (plans[t] != null) {
+            expandTypeFromPlan(t, plans[t]);
+        } else {
+            expandType(t, 0);
+        }
+    }
+
+    private List<DetailedCourseInfo> snapshot() {
+        List<DetailedCourseInfo> timetable = new ArrayList<>(baseTimetable.size() + depth);
+        timetable.addAll(baseTimetable);
+        timetable.addAll(Arrays.asList(stack).subList(0, depth));
+        return timetable;
+    }
+
+    // 힙이 가득 찼다면 가장 낮은 점수보다 높을 때만 교체 (그때만 시간표를 복사)
+    private void offerScored() {
+        double score = scorer.score(occupiedLow, occupiedHigh, totalCredits);
+        long order = found++;
+        // 공유 커트라인과 같은 점수는 앞쪽 하위 트리에서 나왔다면 상위 limit 개에 들 수 있으므로 남긴다.
+        if (sharedThreshold != null && score < sharedThreshold.get()) return;
+        if (best.size() >= limit) {
+            if (score <= best.peek().score()) return;
+            best.poll();
+        }
+        ScoredTimetable accepted = new ScoredTimetable(snapshot(), score, order);
+        best.add(accepted);
+        if (onAccepted != null) {
+            onAccepted.accept(accepted);
+        }
+        if (sharedThreshold != null && best.size() >= limit) {
+            sharedThreshold.raiseTo(best.peek().score());
+        }
+    }
+
+    // 한정: 상위 limit 개가 채워졌고, 이 노드 아래에서 나올 수 있는 점수 상한이 커트라인에 못 미치면 버린다.
+    private boolean cannotBeatThreshold(int t, int start) {
+        double threshold = sharedThreshold != null ? sharedThreshold.get() : Double.NEGATIVE_INFINITY;
+        if (best.size() >= limit) {
+            threshold = Math.max(threshold, best.peek().score());
+        }
+        if (threshold == Double.NEGATIVE_INFINITY) {
+            return false;
+        }
+        long reachable = (long) totalCredits + Math.min(typeMax[t] - typeCredits[t], suffixCredits[t][start]) + potentialAfter[t + 1];
+        int reachableCredits = (int) Math.min(reachable, maxTotal);
+        return scorer.upperBound(occupiedLow, occupiedHigh, reachableCredits) + BOUND_SLACK < threshold;
+    }
+
+    // 유형 t의 풀에서 start 이후 과목들로 현재 부분 조합을 확장 (전위 순회)
+    private void expandType(int t, int start) {
+        if (++nodesExpanded % BUDGET_CHECK_INTERVAL == 0 && !budget.tryConsume(BUDGET_CHECK_INTERVAL)) {
+            budgetExhausted = true;
+            return;
+        }
+        if (cannotBeatThreshold(t, start)) return;
+        int credits = typeCredits[t];
+
+        // 현재 부분 조합이 유형 t의 범위를 만족하면 다음 유형으로 진행
+        if (credits >= typeMin[t] && credits <= typeMax[t]) {
+            searchType(t + 1);
+            if (isDone()) return;
+        }
+        if (credits >= typeMax[t]) return;
+        if (!canReachMinTotal(t, start)) return;
+
+        int[] suffix = suffixCredits[t];
+        for (int i = start; i < suffix.length - 1; i++) {
+            // 한정: 남은 후보로 유형 최소 학점에 도달할 수 없으면 이후 인덱스도 불가능
+            if (credits + suffix[i] < typeMin[t]) return;
+            if (!canPush(t, i)) continue;
+
+            push(t, i);
+            expandType(t, i + 1);
+            pop(t, i);
+
+            if (isDone()) return;
+        }
+    }
+
+    /**
+     * 유형 t에 처음 들어왔을 때 expandType(t, 0) 대신 공유 트리를 따라 확장한다. 방문 순서는 expandType 과 같다.
+     * 트리에는 유형 안의 충돌/학점/그룹 조건만 반영되어 있으므로, 필수 과목·다른 유형과의 조건은 canPush 로 확인하고
+     * 실패하면 그 노드의 하위 트리를 통째로 건너뛴다.
+     */
+    private void expandTypeFromPlan(int t, TypePlanCache.TypePlan plan) {
+        if (++nodesExpanded % BUDGET_CHECK_INTERVAL == 0 && !budget.tryConsume(BUDGET_CHECK_INTERVAL)) {
+            budgetExhausted = true;
+            return;
+        }
+        if (typeCredits[t] >= typeMin[t] && typeCredits[t] <= typeMax[t]) {
+            searchType(t + 1);
+            if (isDone()) return;
+        }
+        if (!canReachMinTotal(t, 0)) return;
+
+        int[] index = plan.index;
+        int[] nodeDepth = plan.depth;
+        int[] skip = plan.skip;
+        int[] picked = planPicked[t];
+        int pickedCount = 0;
+        int k = 0;
+        while (k < index.length) {
+            while (pickedCount >= nodeDepth[k]) {
+                pop(t, picked[--pickedCount]);
+            }
+            int i = index[k];
+            if (!canPush(t, i)) {
+                k = skip[k];
+                continue;
+            }
+            push(t, i);
+            picked[pickedCount++] = i;
+
+            if (++nodesExpanded % BUDGET_CHECK_INTERVAL == 0 && !budget.tryConsume(BUDGET_CHECK_INTERVAL)) {
+                budgetExhausted = true;
+                break;
+            }
+            if (typeCredits[t] >= typeMin[t] && typeCredits[t] <= typeMax[t]) {
+                searchType(t + 1);
+                if (isDone()) break;
+            }
+            // 이 노드에서 최소 학점에 도달할 수 없으면 더 고른 하위 노드들도 도달할 수 없다.
+            k = canReachMinTotal(t, i + 1) ? k + 1 : skip[k];
+        }
+        while (pickedCount > 0) {
+            pop(t, picked[--pickedCount]);
+        }
+    }
+
+    // 한정: 남은 후보를 모두 더해도 전체 최소 학점에 못 미치면 이 분기는 버린다.
+    private boolean canReachMinTotal(int t, int start) {
+        int reachable = Math.min(typeMax[t] - typeCredits[t], suffixCredits[t][start]);
+        return (long) totalCredits + reachable + potentialAfter[t + 1] >= minTotal;
+    }
+
+    private boolean canPush(int t, int i) {
+        int courseCredits = poolCredits[t][i];
+        if (typeCredits[t] + courseCredits > typeMax[t]) return false;
+        if (totalCredits + courseCredits > maxTotal) return false;
+        if (groupUsed[poolGroups[t][i]]) return false;
+        return (occupiedLow & poolMaskLow[t][i]) == 0L && (occupiedHigh & poolMaskHigh[t][i]) == 0L;
+    }
+
+    private void push(int t, int i) {
+        int courseCredits = poolCredits[t][i];
+        stack[depth++] = poolCourses[t][i];
+        groupUsed[poolGroups[t][i]] = true;
+        occupiedLow |= poolMaskLow[t][i];
+        occupiedHigh |= poolMaskHigh[t][i];
+        typeCredits[t] += courseCredits;
+        totalCredits += courseCredits;
+    }
+
+    private void pop(int t, int i) {
+        int courseCredits = poolCredits[t][i];
+        totalCredits -= courseCredits;
+        typeCredits[t] -= courseCredits;
+        occupiedLow &= ~poolMaskLow[t][i];
+        occupiedHigh &= ~poolMaskHigh[t][i];
+        groupUsed[poolGroups[t][i]] = false;
+        stack[--depth] = null;
+    }
+}
@@ -2,19 +2,26 @@ package com.cesco.scheduly.service;
 
 import com.cesco.scheduly.dto.timetable.*;
 import com.cesco.scheduly.entity.User;
-import com.cesco.scheduly.entity.UserCourseSelectionEntity;
-import com.cesco.scheduly.entity.UserPreferenceEntity;
 import com.cesco.scheduly.enums.DoubleMajorType;
 import com.cesco.scheduly.exception.MandatoryCourseConflictException;
+import com.cesco.scheduly.model.CourseCatalog;
 import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.cesco.scheduly.model.SavedTimetableSnapshot;
+import com.cesco.scheduly.model.ScheduleMask;
+import com.cesco.scheduly.model.UserPlanningContext;
+import com.cesco.scheduly.model.UserPreferenceSnapshot;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,21 +32,49 @@ public class TimetableService {
     private final UserService userService;
     private final CourseDataService courseDataService;
     private final ObjectMapper objectMapper; // JSON 변환을 위해 ObjectMapper 주입
+    private final ParallelTimetableSearch parallelSearch; // 후보가 많을 때 사용하는 병렬 탐색 (없으면 순차 탐색)
+    private final SearchBudgetMetrics budgetMetrics; // 탐색 예산 초과 횟수 집계 (없으면 집계 생략)
+    private final RecommendationCache recommendationCache; // 입력이 같으면 이전 추천 결과 재사용 (없으면 항상 새로 계산)
+    private final TypePlanCache typePlanCache; // 사용자 간 공유하는 유형별 부분 조합 트리 (없으면 매번 직접 확장)
 
     private static final int MAX_RECOMMENDATIONS = 5; // 생성할 최대 추천 시간표 개수
+    private static final String NO_RECOMMENDATION_MESSAGE = "추천 가능한 시간표를 찾지 못했습니다. 조건을 변경하거나 필수 과목을 확인해주세요.";
+
+    // 요청 한 번의 탐색 예산 (0 이하이면 제한 없음). 한도에 걸리면 그때까지 찾은 최선의 결과를 반환
+    @Value("${scheduly.recommendation.search.max-nodes:2000000}")
+    private long searchMaxNodes = 2_000_000L;
+
+    @Value("${scheduly.recommendation.search.max-millis:2000}")
+    private long searchMaxMillis = 2_000L;
+
+    // JVM 전체 힙을 재므로 결과가 요청마다 달라질 수 있어 기본은 제한 없음
+    @Value("${scheduly.recommendation.search.max-memory-mb:0}")
+    private long searchMaxMemoryMb = 0L;
 
     @Autowired
-    public TimetableService(UserService userService, CourseDataService courseDataService, ObjectMapper objectMapper) {
+    public TimetableService(UserService userService, CourseDataService courseDataService, ObjectMapper objectMapper,
+                            ParallelTimetableSearch parallelSearch, SearchBudgetMetrics budgetMetrics,
+                            RecommendationCache recommendationCache, TypePlanCache typePlanCache) {
         this.userService = userService;
         this.courseDataService = courseDataService;
         this.objectMapper = objectMapper; // ObjectMapper 초기화
+        this.parallelSearch = parallelSearch;
+        this.budgetMetrics = budgetMetrics;
+        this.recommendationCache = recommendationCache;
+        this.typePlanCache = typePlanCache;
     }
 
     public MainPageTimetableResponse getMainPageTimetable(Long userId) {
-        UserPreferenceEntity userPreferences = userService.getUserPreference(userId);
-        String savedTimetableJson = userPreferences.getSavedTimetableJson();
+        // 1. 행으로 저장된 시간표가 있으면 카탈로그에서 과목 정보를 채워 반환
+        SavedTimetableSnapshot saved = userService.getLatestSavedTimetable(userId);
+        if (saved != null) {
+            logger.info("User ID {}: 저장된 시간표를 불러옵니다.", userId);
+            return new MainPageTimetableResponse(true, toSavedTimetableDto(saved, courseDataService.getCatalog()), "저장된 시간표입니다.");
+        }
 
-        // 1. 저장된 시간표가 있는지 확인
+        // 이전 형식(JSON)으로 저장된 시간표. 다음에 시간표를 저장하면 행 형식으로 바뀐다.
+        UserPreferenceSnapshot userPreferences = userService.getUserPreference(userId);
+        String savedTimetableJson = userPreferences.getSavedTimetableJson();
         if (savedTimetableJson != null && !savedTimetableJson.isEmpty()) {
             try {
                 // 2. JSON 문자열을 RecommendedTimetableDto 객체로 변환
@@ -57,44 +92,137 @@ public class TimetableService {
         return new MainPageTimetableResponse(false, null, "아직 생성된 시간표가 없어요! 시간표를 생성하러 가볼까요?");
     }
 
+    // 저장한 시간표 전체 (최근 것부터). timetableId 는 저장 번호이다.
+    public List<RecommendedTimetableDto> getSavedTimetables(Long userId) {
+        CourseCatalog catalog = courseDataService.getCatalog();
+        return userService.getSavedTimetables(userId).stream()
+                .map(saved -> toSavedTimetableDto(saved, catalog))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 저장된 시간표 행을 응답 형식으로 바꾼다. 과목명/교수/강의실/비고/수업 시간은 카탈로그에서 채우고,
+     * 과목 유형과 학점은 저장 당시 값을 쓴다. 카탈로그에 없는 과목은 학수번호와 저장된 값만 채운다.
+     * 대체 분반은 추천 시점에만 계산하므로 비워 둔다.
+     */
+    private RecommendedTimetableDto toSavedTimetableDto(SavedTimetableSnapshot saved, CourseCatalog catalog) {
+        List<ScheduledCourseDto> scheduledCourses = saved.getCourses().stream()
+                .map(course -> {
+                    DetailedCourseInfo info = catalog.findByCode(course.courseCode());
+                    if (info == null) {
+                        return new ScheduledCourseDto(course.courseCode(), null, course.courseType(), course.credits(),
+                                null, null, null, List.of());
+                    }
+                    return new ScheduledCourseDto(course.courseCode(), info.getCourseName(), course.courseType(), course.credits(),
+                            info.getProfessor(), info.getClassroom(), info.getRemarks(), info.getScheduleSlots());
+                })
+                .collect(Collectors.toList());
+        return new RecommendedTimetableDto(saved.getId(), scheduledCourses, new LinkedHashMap<>(saved.getCreditsByType()),
+                saved.getTotalCredits(), saved.getScore());
+    }
+
     public List<RecommendedTimetableDto> generateRecommendations(Long userId) {
+        return recommendTimetables(userId).getTimetables();
+    }
+
+    /**
+     * 추천 시간표와 안내 메시지를 만든다. 탐색 예산(노드 수/시간/메모리)에 걸려 모든 조합을 보지 못했다면
+     * 그때까지 찾은 최선의 시간표를 반환하고 truncated 를 true 로 표시한다.
+     */
+    public RecommendedTimetableResponse recommendTimetables(Long userId) {
+        return recommendTimetables(userId, null, () -> false);
+    }
+
+    /**
+     * 스트리밍용 추천. 탐색 중 지금까지 전달한 것 중 상위 {@value #MAX_RECOMMENDATIONS}개에 드는 시간표를 찾을 때마다
+     * onTimetable 로 바로 전달하고(번호는 전달 순서), 최종 순위는 반환값으로 돌려준다.
+     * cancelled 가 true 를 반환하면(클라이언트 연결 종료 등) 탐색을 즉시 중단한다.
+     * <p>
+     * 사용자 정보/과목 선택/시간·학점 설정/카탈로그 버전이 이전 요청과 같으면 캐시된 결과를 그대로 반환한다.
+     * (탐색 예산에 걸려 잘린 결과는 캐시하지 않는다.)
+     */
+    public RecommendedTimetableResponse recommendTimetables(Long userId, Consumer<RecommendedTimetableDto> onTimetable,
+                                                            BooleanSupplier cancelled) {
         logger.info("User ID {} 시간표 추천 생성 시작", userId);
-        User currentUser = userService.getUserDetails(userId);
-        UserCourseSelectionEntity userSelections = userService.getUserCourseSelection(userId);
-        UserPreferenceEntity userPreferences = userService.getUserPreference(userId);
+        // 사용자 정보, 과목 선택, 시간/학점 설정을 한 번에 읽은 스냅샷
+        UserPlanningContext context = userService.loadPlanningContext(userId);
+        User currentUser = context.getUser();
+        TimePreferenceRequest timePreferences = context.getTimePreferences();
+        CreditSettingsRequest creditSettings = context.getCreditSettings();
+
+        // 요청 하나는 처음 받은 카탈로그 스냅샷만 사용한다. 도중에 카탈로그가 재적재되어도 이 탐색은 영향을 받지 않는다.
+        CourseCatalog catalog = courseDataService.getCatalog();
+        String fingerprint = RecommendationCache.fingerprint(context, catalog.getVersion());
+        if (recommendationCache != null) {
+            RecommendedTimetableResponse cached = recommendationCache.get(userId, fingerprint);
+            if (cached != null) {
+                logger.info("User ID {}: 입력이 바뀌지 않아 캐시된 추천 결과를 반환합니다.", userId);
+                if (onTimetable != null) {
+                    cached.getTimetables().forEach(onTimetable);
+                }
+                return cached;
+            }
+        }
+
+        RecommendedTimetableResponse response = generateRecommendationResponse(
+                userId, catalog, currentUser, context, timePreferences, creditSettings, onTimetable, cancelled);
+        // 중단되었거나 예산 초과로 잘린 결과는 다음 요청에서 끝까지 탐색할 수 있도록 캐시하지 않는다.
+        if (recommendationCache != null && !cancelled.getAsBoolean() && !response.isTruncated()) {
+            recommendationCache.put(userId, fingerprint, response);
+        }
+        return response;
+    }
 
-        TimePreferenceRequest timePreferences = Optional.ofNullable(userPreferences.getTimePreferences()).orElseGet(TimePreferenceRequest::new);
-        CreditSettingsRequest creditSettings = Optional.ofNullable(userPreferences.getCreditSettings()).orElseGet(CreditSettingsRequest::new);
+    private RecommendedTimetableResponse generateRecommendationResponse(Long userId, CourseCatalog catalog, User currentUser,
+                                                                        UserPlanningContext context,
+                                                                        TimePreferenceRequest timePreferences,
+                                                                        CreditSettingsRequest creditSettings,
+                                                                        Consumer<RecommendedTimetableDto> onTimetable,
+                                                                        BooleanSupplier cancelled) {
 
         List<String> targetCourseTypes = creditSettings.getCreditGoalsPerType() != null ?
                 new ArrayList<>(creditSettings.getCreditGoalsPerType().keySet()) : Collections.emptyList();
 
         logger.debug("User ID {}: 사용자 정보(학년 {}), 목표 학점 유형: {}", userId, currentUser.getGrade(), targetCourseTypes);
 
-        List<DetailedCourseInfo> allCourses = courseDataService.getDetailedCourses();
+        List<DetailedCourseInfo> allCourses = catalog.getCourses();
         if (allCourses.isEmpty()) {
             logger.warn("User ID {}: 로드된 강의 데이터가 없습니다.", userId);
-            return Collections.emptyList();
+            return new RecommendedTimetableResponse(Collections.emptyList(), NO_RECOMMENDATION_MESSAGE);
         }
 
-        List<DetailedCourseInfo> candidatePool = prepareCandidateCourses(allCourses, userSelections);
+        List<DetailedCourseInfo> candidatePool = prepareCandidateCourses(catalog, context);
         logger.debug("User ID {}: 기수강/재수강 필터 후 후보 강의 수: {}", userId, candidatePool.size());
 
-        List<DetailedCourseInfo> mandatoryScheduledCourses = getAndValidateMandatoryCourses(candidatePool, userSelections, currentUser);
+        List<DetailedCourseInfo> mandatoryScheduledCourses = getAndValidateMandatoryCourses(candidatePool, context, currentUser);
         logger.info("User ID {}: 필수/재수강 과목 처리 완료 ({}개)", userId, mandatoryScheduledCourses.size());
 
-        List<List<DetailedCourseInfo>> generatedRawTimetables = findTimetableCombinations(
-                mandatoryScheduledCourses, candidatePool,
-                timePreferences, creditSettings, MAX_RECOMMENDATIONS, currentUser, targetCourseTypes
+        // 시간/학점이 같은 분반은 대표 하나만 탐색하고, 결과를 만들 때 대체 분반으로 펼침
+        SectionEquivalence sections = SectionEquivalence.collapse(groupElectivesByType(
+                mandatoryScheduledCourses, candidatePool, timePreferences, creditSettings, currentUser));
+        logger.debug("User ID {}: 동일 시간 분반 {}개를 대표 분반으로 합침", userId, sections.getCollapsedCount());
+
+        TimetableScorer scorer = new TimetableScorer(preferredMask(timePreferences), creditSettings.getMaxTotalCredits());
+        SearchBudget budget = new SearchBudget(searchMaxNodes, searchMaxMillis, searchMaxMemoryMb * 1024 * 1024);
+        Consumer<TimetableSearchEngine.ScoredTimetable> onAccepted = onTimetable == null ? null
+                : streamingListener(onTimetable, sections, currentUser, creditSettings);
+        List<TimetableSearchEngine.ScoredTimetable> generatedRawTimetables = findTimetableCombinations(
+                mandatoryScheduledCourses, sections.getPools(),
+                creditSettings, MAX_RECOMMENDATIONS, currentUser, targetCourseTypes, scorer, budget, cancelled, onAccepted
         );
+        if (budgetMetrics != null) {
+            budgetMetrics.record(budget);
+        }
+        if (budget.isExhausted()) {
+            logger.warn("User ID {}: 탐색 예산 초과({})로 탐색 중단, 노드 {}개까지 찾은 결과를 반환합니다.",
+                    userId, budget.getExhaustedBy(), budget.getConsumedNodes());
+        }
         logger.info("User ID {}: {}개의 원시 시간표 조합 생성됨.", userId, generatedRawTimetables.size());
 
+        // 점수 내림차순으로 정렬된 결과에 1번부터 번호를 매김
         List<RecommendedTimetableDto> recommendations = new ArrayList<>();
         for (int i = 0; i < generatedRawTimetables.size(); i++) {
-            List<DetailedCourseInfo> timetableCourses = generatedRawTimetables.get(i);
-            Map<String, Integer> creditsByType = calculateCreditsByTypeForUser(timetableCourses, currentUser, creditSettings);
-            int totalCredits = creditsByType.values().stream().mapToInt(Integer::intValue).sum();
-            recommendations.add(convertToRecommendedDtoForUser(i + 1, timetableCourses, creditsByType, totalCredits, currentUser, creditSettings));
+            recommendations.add(convertScoredToDto(i + 1, generatedRawTimetables.get(i), sections, currentUser, creditSettings));
         }
 
         // 필수 과목만으로도 조건 충족 시 추천 목록에 추가
@@ -102,30 +230,39 @@ public class TimetableService {
             if (meetsAllCreditCriteria(mandatoryScheduledCourses, creditSettings, currentUser)) {
                 Map<String, Integer> mandatoryCreditsByType = calculateCreditsByTypeForUser(mandatoryScheduledCourses, currentUser, creditSettings);
                 int mandatoryTotalCredits = mandatoryCreditsByType.values().stream().mapToInt(Integer::intValue).sum();
-                recommendations.add(convertToRecommendedDtoForUser(0, mandatoryScheduledCourses, mandatoryCreditsByType, mandatoryTotalCredits, currentUser, creditSettings));
+                ScheduleMask mandatoryMask = ScheduleMask.EMPTY;
+                for (DetailedCourseInfo course : mandatoryScheduledCourses) {
+                    mandatoryMask = mandatoryMask.union(course.getScheduleMask());
+                }
+                double mandatoryScore = scorer.score(mandatoryMask.getLow(), mandatoryMask.getHigh(), mandatoryTotalCredits);
+                recommendations.add(convertToRecommendedDtoForUser(0, mandatoryScheduledCourses, mandatoryCreditsByType, mandatoryTotalCredits, mandatoryScore, sections, currentUser, creditSettings));
                 logger.info("User ID {}: 필수 과목만으로 구성된 시간표를 추천합니다.", userId);
             }
         }
 
         if (recommendations.isEmpty()) {
             logger.warn("User ID {}: 최종 추천 시간표를 생성하지 못했습니다.", userId);
-        } else {
-            logger.info("User ID {}: 최종 {}개의 시간표 추천.", userId, recommendations.size());
+            String message = budget.isExhausted()
+                    ? "탐색 시간 안에 추천 가능한 시간표를 찾지 못했습니다. 학점 범위나 선호 시간대를 좁혀주세요."
+                    : NO_RECOMMENDATION_MESSAGE;
+            return new RecommendedTimetableResponse(recommendations, message, budget.isExhausted());
         }
-
-        return recommendations;
+        logger.info("User ID {}: 최종 {}개의 시간표 추천.", userId, recommendations.size());
+        String message = recommendations.size() + "개의 시간표를 추천합니다."
+                + (budget.isExhausted() ? " (탐색 시간 제한으로 일부 조합만 검토했습니다.)" : "");
+        return new RecommendedTimetableResponse(recommendations, message, budget.isExhausted());
     }
 
-    private List<DetailedCourseInfo> prepareCandidateCourses(List<DetailedCourseInfo> allCourses, UserCourseSelectionEntity selections) {
+    private List<DetailedCourseInfo> prepareCandidateCourses(CourseCatalog catalog, UserPlanningContext selections) {
         Set<String> takenGroupIds = selections.getTakenCourses().stream()
-                .map(courseDataService::getDetailedCourseByCode)
+                .map(catalog::findByCode)
                 .filter(Objects::nonNull)
                 .map(c -> c.getGroupId() != null ? c.getGroupId() : c.getCourseCode())
                 .collect(Collectors.toSet());
 
         Set<String> retakeCodes = new HashSet<>(selections.getRetakeCourses());
 
-        return allCourses.stream()
+        return catalog.getCourses().stream()
                 .filter(course -> {
                     String identifier = course.getGroupId() != null ? course.getGroupId() : course.getCourseCode();
                     return retakeCodes.contains(course.getCourseCode()) || !takenGroupIds.contains(identifier);
@@ -134,7 +271,7 @@ public class TimetableService {
     }
 
     private List<DetailedCourseInfo> getAndValidateMandatoryCourses(List<DetailedCourseInfo> candidatePool,
-                                                                    UserCourseSelectionEntity selections,
+                                                                    UserPlanningContext selections,
                                                                     User currentUser) {
         Set<String> mandatoryCodes = new HashSet<>(selections.getMandatoryCourses());
         mandatoryCodes.addAll(selections.getRetakeCourses());
@@ -164,15 +301,13 @@ public class TimetableService {
 // ================== 핵심 수정 영역: 분할 정복 알고리즘 (최종 수정안) ==================
 
 
-    private List<List<DetailedCourseInfo>> findTimetableCombinations(
-
+    // 선호 시간대 안에 있고 필수 과목과 겹치지 않는 후보를 사용자 기준 과목 유형별로 묶음
+    private Map<String, List<DetailedCourseInfo>> groupElectivesByType(
             List<DetailedCourseInfo> initialTimetableBase,
             List<DetailedCourseInfo> availableCoursePool,
             TimePreferenceRequest timePreferences,
             CreditSettingsRequest creditSettings,
-            int numRecommendationsNeeded,
-            User currentUser,
-            List<String> targetCourseTypes) {
+            User currentUser) {
 
         List<DetailedCourseInfo> timeFilteredPool = filterByTimePreferences(availableCoursePool, timePreferences);
 
@@ -180,126 +315,47 @@ public class TimetableService {
                 .map(c -> c.getGroupId() != null ? c.getGroupId() : c.getCourseCode())
                 .collect(Collectors.toSet());
 
-        Map<String, List<DetailedCourseInfo>> electivesByType = timeFilteredPool.stream()
+        return timeFilteredPool.stream()
                 .filter(c -> {
                     String identifier = c.getGroupId() != null ? c.getGroupId() : c.getCourseCode();
                     return !initialCourseIdentifiers.contains(identifier);
                 })
                 .collect(Collectors.groupingBy(course -> getActualCourseTypeForUser(course, currentUser, creditSettings)));
-
-        List<List<DetailedCourseInfo>> finalTimetables = new ArrayList<>();
-
-        // 재귀 탐색 시작
-        generateCombinationsRecursive(
-                targetCourseTypes, 0, initialTimetableBase, electivesByType,
-                creditSettings, finalTimetables, numRecommendationsNeeded, currentUser
-        );
-
-
-        return finalTimetables;
     }
 
-    private void generateCombinationsRecursive(List<String> targetTypes,
-                                               int typeIndex,
-                                               List<DetailedCourseInfo> currentTimetable,
-                                               Map<String, List<DetailedCourseInfo>> electivesByType,
-                                               CreditSettingsRequest creditSettings,
-                                               List<List<DetailedCourseInfo>> finalResult,
-                                               int numRecommendationsNeeded,
-                                               User currentUser) {
-
-        if (finalResult.size() >= numRecommendationsNeeded) {
-            return;
-        }
-
-        if (typeIndex >= targetTypes.size()) {
-            if (meetsAllCreditCriteria(currentTimetable, creditSettings, currentUser)) {
-                finalResult.add(new ArrayList<>(currentTimetable));
-            }
-            return;
-        }
-
-        String currentType = targetTypes.get(typeIndex);
-        CreditRangeDto originalRange = creditSettings.getCreditGoalsPerType().get(currentType);
-
-        if (originalRange == null) {
-            generateCombinationsRecursive(targetTypes, typeIndex + 1, currentTimetable, electivesByType, creditSettings, finalResult, numRecommendationsNeeded, currentUser);
-            return;
-        }
-
-        Map<String, Integer> currentCreditsByType = calculateCreditsByTypeForUser(currentTimetable, currentUser, creditSettings);
-        int initialCredits = currentCreditsByType.getOrDefault(currentType, 0);
-        int newMin = Math.max(0, originalRange.getMin() - initialCredits);
-        int newMax = originalRange.getMax() - initialCredits;
-
-        List<DetailedCourseInfo> typePool = electivesByType.getOrDefault(currentType, Collections.emptyList());
-
-        // 현재 유형에서 추가할 수 있는 모든 부분 조합을 찾음
-        // ★ 핵심: 헬퍼 함수는 "가능한 모든 조합"을 찾는 역할만 충실히 수행
-        List<List<DetailedCourseInfo>> partialCombinations = findPartialCombinations(typePool, new CreditRangeDto(newMin, newMax));
+    private List<TimetableSearchEngine.ScoredTimetable> findTimetableCombinations(
 
-        // ★ 핵심: 만약 가능한 조합이 없다면, 이 경로는 더 이상 진행할 수 없으므로 종료(백트래킹)
-        // 단, newMin이 0이었다면 partialCombinations에 '빈 리스트'가 포함되어 있으므로 이 조건에 걸리지 않음.
-        if (partialCombinations.isEmpty()){
-            return;
-        }
-
-        // 각 부분 조합에 대해 재귀적으로 다음 단계 진행
-        for (List<DetailedCourseInfo> partial : partialCombinations) {
-            if (finalResult.size() >= numRecommendationsNeeded) return;
-
-            List<DetailedCourseInfo> nextTimetable = new ArrayList<>(currentTimetable);
-            nextTimetable.addAll(partial);
-
-            if (!hasTimeConflictInList(nextTimetable)) {
-                generateCombinationsRecursive(targetTypes, typeIndex + 1, nextTimetable, electivesByType, creditSettings, finalResult, numRecommendationsNeeded, currentUser);
-            }
-        }
-    }
-
-    // 이 아래 두 헬퍼 메서드는 이전과 동일하며, 수정할 필요가 없습니다.
-    private List<List<DetailedCourseInfo>> findPartialCombinations(List<DetailedCourseInfo> pool, CreditRangeDto range) {
-        List<List<DetailedCourseInfo>> result = new ArrayList<>();
-        findPartialCombinationsRecursive(pool, range, 0, new ArrayList<>(), 0, result);
-        // ★ 핵심: newMin=0일 때, 아래 재귀함수가 시작점에서 바로 빈 리스트 '[]'를 결과에 추가해줌
-        if (range.getMin() == 0 && result.stream().noneMatch(List::isEmpty)) {
-            result.add(new ArrayList<>());
-        }
-        return result;
-    }
-
-    private void findPartialCombinationsRecursive(List<DetailedCourseInfo> pool, CreditRangeDto range, int startIndex,
-                                                  List<DetailedCourseInfo> currentCombination, int currentCredits,
-                                                  List<List<DetailedCourseInfo>> result) {
-
-        if (currentCredits >= range.getMin() && currentCredits <= range.getMax()) {
-            result.add(new ArrayList<>(currentCombination));
-        }
-
-        if (startIndex >= pool.size() || currentCredits >= range.getMax()) {
-            return;
+            List<DetailedCourseInfo> initialTimetableBase,
+            Map<String, List<DetailedCourseInfo>> electivesByType,
+            CreditSettingsRequest creditSettings,
+            int numRecommendationsNeeded,
+            User currentUser,
+            List<String> targetCourseTypes,
+            TimetableScorer scorer,
+            SearchBudget budget,
+            BooleanSupplier cancelled,
+            Consumer<TimetableSearchEngine.ScoredTimetable> onAccepted) {
+
+        // 점유 마스크/유형별 학점 카운터를 제자리에서 갱신하는 분기 한정 탐색
+        Map<String, Integer> baseCreditsByType = calculateCreditsByTypeForUser(initialTimetableBase, currentUser, creditSettings);
+        TimetableSearchEngine engine = new TimetableSearchEngine(
+                initialTimetableBase, electivesByType, targetCourseTypes,
+                creditSettings.getCreditGoalsPerType(), baseCreditsByType,
+                creditSettings.getMinTotalCredits(), creditSettings.getMaxTotalCredits(),
+                typePlanCache, budget
+        );
+        // 처음 찾은 K개가 아니라, 예산 안에서 탐색한 시간표 중 점수 상위 K개를 유지
+        if (parallelSearch != null && parallelSearch.isWorthParallelizing(engine)) {
+            logger.debug("User ID {}: 후보 {}개, 병렬 탐색으로 진행", currentUser.getId(), engine.getCandidateCount());
+            return parallelSearch.searchBest(engine, numRecommendationsNeeded, scorer, budget, cancelled, onAccepted);
         }
+        List<TimetableSearchEngine.ScoredTimetable> finalTimetables =
+                engine.searchBest(numRecommendationsNeeded, scorer, budget, cancelled, onAccepted);
+        logger.debug("User ID {}: 탐색 노드 {}개 확장 (예산 소진: {})", currentUser.getId(), engine.getNodesExpanded(), budget.isExhausted());
 
-        for (int i = startIndex; i < pool.size(); i++) {
-            DetailedCourseInfo courseToAdd = pool.get(i);
-            if (currentCredits + courseToAdd.getCredits() > range.getMax()) continue;
-
-            String courseIdentifier = courseToAdd.getGroupId() != null ? courseToAdd.getGroupId() : courseToAdd.getCourseCode();
-            boolean isDuplicate = currentCombination.stream().anyMatch(c ->
-                    (c.getGroupId() != null ? c.getGroupId() : c.getCourseCode()).equals(courseIdentifier));
-            if (isDuplicate) continue;
-
-            currentCombination.add(courseToAdd);
-            if (!hasTimeConflictInList(currentCombination)) {
-                findPartialCombinationsRecursive(pool, range, i + 1, currentCombination, currentCredits + courseToAdd.getCredits(), result);
-            }
-            currentCombination.remove(currentCombination.size() - 1);
-        }
+        return finalTimetables;
     }
 
-
-
-
     // ================== 유틸리티 및 헬퍼 메서드 ==================
 
     private boolean meetsAllCreditCriteria(List<DetailedCourseInfo> timetable, CreditSettingsRequest settings, User user) {
@@ -337,57 +393,37 @@ public class TimetableService {
         return creditsMap;
     }
 
-    private List<DetailedCourseInfo> filterByTimePreferences(List<DetailedCourseInfo> courses, TimePreferenceRequest preferences) {
+    List<DetailedCourseInfo> filterByTimePreferences(List<DetailedCourseInfo> courses, TimePreferenceRequest preferences) {
         if (preferences == null || preferences.getPreferredTimeSlots() == null || preferences.getPreferredTimeSlots().isEmpty()) {
             return courses;
         }
 
-        Map<String, Set<Integer>> allowedSlotsMap = new HashMap<>();
-        for (TimeSlotDto preferredSlot : preferences.getPreferredTimeSlots()) {
-            allowedSlotsMap
-                    .computeIfAbsent(preferredSlot.getDay(), k -> new HashSet<>())
-                    .addAll(preferredSlot.getPeriods());
-        }
+        // 선호 시간대 전체를 하나의 마스크로 만들고, 과목의 모든 교시가 그 안에 포함되는지 확인
+        ScheduleMask allowedMask = ScheduleMask.of(preferences.getPreferredTimeSlots());
 
-        return courses.stream().filter(course -> {
-            if (course.getScheduleSlots() == null || course.getScheduleSlots().isEmpty()) return false;
-            for (TimeSlotDto courseSlot : course.getScheduleSlots()) {
-                Set<Integer> allowedPeriods = allowedSlotsMap.get(courseSlot.getDay());
-                if (allowedPeriods == null || !allowedPeriods.containsAll(courseSlot.getPeriods())) {
-                    return false;
-                }
-            }
-            return true;
-        }).collect(Collectors.toList());
+        return courses.stream()
+                .filter(course -> {
+                    ScheduleMask courseMask = course.getScheduleMask();
+                    return !courseMask.isEmpty() && courseMask.isSubsetOf(allowedMask);
+                })
+                .collect(Collectors.toList());
     }
 
-    // TimetableService.java 내
-    private boolean hasTimeConflictInList(List<DetailedCourseInfo> courses) {
+    // 각 과목의 미리 계산된 ScheduleMask를 누적하며 AND 연산으로 충돌을 검사 (추가 할당 없음)
+    boolean hasTimeConflictInList(List<DetailedCourseInfo> courses) {
         if (courses == null || courses.size() < 2) {
             return false;
         }
-        // 요일별로 수업 교시를 저장할 맵
-        Map<String, BitSet> schedule = new HashMap<>();
-
+        long occupiedLow = 0L;
+        long occupiedHigh = 0L;
         for (DetailedCourseInfo course : courses) {
-            if (course.getScheduleSlots() == null || course.getScheduleSlots().isEmpty()) {
-                continue;
-            }
-            for (TimeSlotDto slot : course.getScheduleSlots()) {
-                // 해당 요일의 BitSet을 가져오거나 새로 생성
-                BitSet daySchedule = schedule.computeIfAbsent(slot.getDay(), k -> new BitSet(16)); // 1~15교시 사용 가정
-
-                for (int period : slot.getPeriods()) {
-                    // 해당 교시에 이미 수업이 있는지(bit가 1인지) 확인
-                    if (daySchedule.get(period)) {
-                        // 이미 수업이 있다면 충돌 발생
-                        logger.error("시간표 충돌 발생: {} 과목의 {} 교시가 이미 예약되어 있습니다.", course.getCourseName(), period);
-                        return true;
-                    }
-                    // 수업이 없다면 해당 교시의 bit를 1로 설정
-                    daySchedule.set(period);
-                }
+            ScheduleMask mask = course.getScheduleMask();
+            if (mask.overlaps(occupiedLow, occupiedHigh)) {
+                logger.debug("시간표 충돌 발생: {} 과목의 시간이 이미 예약되어 있습니다.", course.getCourseName());
+                return true;
             }
+            occupiedLow |= mask.getLow();
+            occupiedHigh |= mask.getHigh();
         }
         // 모든 과목을 확인했는데 충돌이 없으면 false 반환
         return false;
@@ -432,7 +468,41 @@ public class TimetableService {
         return "기타"; // 모든 조건에 해당하지 않는 경우
     }
 
-    private RecommendedTimetableDto convertToRecommendedDtoForUser(int id, List<DetailedCourseInfo> courses, Map<String, Integer> creditsByType, int totalCredits, User currentUser, CreditSettingsRequest creditSettings) {
+    // 병렬 탐색은 하위 트리별 상위 K개를 알려주므로, 지금까지 전달한 시간표 중 전체 상위 K개에 드는 것만 내보낸다.
+    private Consumer<TimetableSearchEngine.ScoredTimetable> streamingListener(Consumer<RecommendedTimetableDto> onTimetable,
+                                                                               SectionEquivalence sections,
+                                                                               User currentUser,
+                                                                               CreditSettingsRequest creditSettings) {
+        PriorityQueue<Double> streamedScores = new PriorityQueue<>();
+        AtomicLong streamedCount = new AtomicLong();
+        return scored -> {
+            synchronized (streamedScores) {
+                if (streamedScores.size() >= MAX_RECOMMENDATIONS) {
+                    if (scored.score() <= streamedScores.peek()) return;
+                    streamedScores.poll();
+                }
+                streamedScores.add(scored.score());
+            }
+            onTimetable.accept(convertScoredToDto(streamedCount.incrementAndGet(), scored, sections, currentUser, creditSettings));
+        };
+    }
+
+    private RecommendedTimetableDto convertScoredToDto(long id, TimetableSearchEngine.ScoredTimetable scored, SectionEquivalence sections,
+                                                       User currentUser, CreditSettingsRequest creditSettings) {
+        List<DetailedCourseInfo> timetableCourses = scored.courses();
+        Map<String, Integer> creditsByType = calculateCreditsByTypeForUser(timetableCourses, currentUser, creditSettings);
+        int totalCredits = creditsByType.values().stream().mapToInt(Integer::intValue).sum();
+        return convertToRecommendedDtoForUser(id, timetableCourses, creditsByType, totalCredits, scored.score(), sections, currentUser, creditSettings);
+    }
+
+    private ScheduleMask preferredMask(TimePreferenceRequest preferences) {
+        if (preferences == null || preferences.getPreferredTimeSlots() == null) {
+            return ScheduleMask.EMPTY;
+        }
+        return ScheduleMask.of(preferences.getPreferredTimeSlots());
+    }
+
+    private RecommendedTimetableDto convertToRecommendedDtoForUser(long id, List<DetailedCourseInfo> courses, Map<String, Integer> creditsByType, int totalCredits, double score, SectionEquivalence sections, User currentUser, CreditSettingsRequest creditSettings) {
         List<ScheduledCourseDto> scheduledCourses = courses.stream()
                 .map(course -> new ScheduledCourseDto(
                         course.getCourseCode(),
@@ -442,9 +512,10 @@ public class TimetableService {
                         course.getProfessor(),
                         course.getClassroom(),
                         course.getRemarks(),
-                        course.getScheduleSlots()
+                        course.getScheduleSlots(),
+                        sections.alternativesOf(course).stream().map(DetailedCourseInfo::getCourseCode).toList()
                 ))
                 .collect(Collectors.toList());
-        return new RecommendedTimetableDto(id, scheduledCourses, creditsByType, totalCredits);
+        return new RecommendedTimetableDto(id, scheduledCourses, creditsByType, totalCredits, Math.round(score * 100) / 100.0);
     }
 }
\ No newline at end of file
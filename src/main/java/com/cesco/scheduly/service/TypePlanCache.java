@@ -0,0 +1,200 @@
+package com.cesco.scheduly.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 유형 하나의 후보 풀만으로 결정되는 부분 조합 트리({@link TypePlan})를 사용자 간에 공유하는 캐시.
+ * <p>
+ * 같은 전공·같은 선호 시간대의 학생들은 유형별 후보 풀과 학점 범위가 같으므로, 풀 지문과 (필수 과목을 뺀) 학점 범위를 키로
+ * 한 번 만든 트리를 재사용한다. 트리는 노드당 int 3개(풀 인덱스, 깊이, 하위 트리 끝)로만 저장하며,
+ * 항목 수와 전체 노드 수 한도를 넘으면 가장 오래 사용하지 않은 트리부터 버린다.
+ */
+@Component
+public class TypePlanCache {
+
+    record Key(String poolFingerprint, int minCredits, int maxCredits) {
+    }
+
+    private final Map<Key, TypePlan> plans = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxTotalNodes;
+    private final int maxPlanNodes;
+    private long totalNodes;
+
+    public TypePlanCache(@Value("${scheduly.recommendation.plan-cache.max-entries:256}") int maxEntries,
+                         @Value("${scheduly.recommendation.plan-cache.max-total-nodes:2000000}") long maxTotalNodes,
+                         @Value("${scheduly.recommendation.plan-cache.max-plan-nodes:100000}") int maxPlanNodes) {
+        this.maxEntries = maxEntries;
+        this.maxTotalNodes = maxTotalNodes;
+        this.maxPlanNodes = maxPlanNodes;
+    }
+
+    // 트리 하나가 가질 수 있는 최대 노드 수. 넘으면 TypePlan.TOO_LARGE 가 저장되어 해당 풀은 기존 탐색을 사용한다.
+    int getMaxPlanNodes() {
+        return maxPlanNodes;
+    }
+
+    /**
+     * 캐시에 없으면 builder 로 만들어 저장한다. 빌드는 잠금 밖에서 하므로, 같은 키를 동시에 처음 요청하면 드물게 두 번 만들어질 수 있다.
+     * builder 가 null 을 반환하면(요청의 탐색 예산 소진) 저장하지 않고 null 을 반환한다.
+     */
+    TypePlan getOrBuild(Key key, Supplier<TypePlan> builder) {
+        synchronized (plans) {
+            TypePlan cached = plans.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        TypePlan built = builder.get();
+        if (built == null) {
+            return null;
+        }
+        synchronized (plans) {
+            TypePlan raced = plans.putIfAbsent(key, built);
+            if (raced != null) {
+                return raced;
+            }
+            totalNodes += built.size();
+            var iterator = plans.entrySet().iterator();
+            while ((plans.size() > maxEntries || totalNodes > maxTotalNodes) && iterator.hasNext()) {
+                Map.Entry<Key, TypePlan> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) continue;
+                totalNodes -= eldest.getValue().size();
+                iterator.remove();
+            }
+        }
+        return built;
+    }
+
+    int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+
+    /**
+     * 한 유형의 풀에서 (다른 유형/필수 과목을 고려하지 않은) 고를 수 있는 부분 조합들을 탐색 순서(전위 순회)대로 나열한 트리.
+     * index[k] 는 노드 k 에서 추가되는 풀 인덱스, depth[k] 는 그 노드까지 고른 과목 수, skip[k] 는 노드 k 의 하위 트리가 끝난 다음 노드이다.
+     * 탐색 중 노드 k 를 넣을 수 없으면 그 하위 트리도 모두 불가능하므로 skip[k] 로 건너뛴다.
+     */
+    static final class TypePlan {
+
+        static final TypePlan TOO_LARGE = new TypePlan(new int[0], new int[0], new int[0], 0);
+        private static final int BUDGET_CHECK_INTERVAL = 1024; // 엔진과 같은 간격으로 예산(노드/시간)을 확인
+
+        final int[] index;
+        final int[] depth;
+        final int[] skip;
+        final int maxDepth;
+
+        private TypePlan(int[] index, int[] depth, int[] skip, int maxDepth) {
+            this.index = index;
+            this.depth = depth;
+            this.skip = skip;
+            this.maxDepth = maxDepth;
+        }
+
+        int size() {
+            return index.length;
+        }
+
+        /**
+         * 엔진의 유형 내 확장(expandType)과 같은 규칙으로 트리를 만든다. minCredits/maxCredits 는 필수 과목 학점을 뺀 범위이다.
+         * 노드 수가 maxNodes 를 넘으면 {@link #TOO_LARGE} 를 반환한다.
+         * 만든 노드는 탐색 노드처럼 budget 에 합산하며, 도중에 예산(노드/시간)이 바닥나면 null 을 반환한다.
+         */
+        static TypePlan build(int[] credits, long[] maskLow, long[] maskHigh, int[] groups, int groupCount,
+                              int[] suffixCredits, int minCredits, int maxCredits, int maxNodes, SearchBudget budget) {
+            Builder builder = new Builder(credits, maskLow, maskHigh, groups, groupCount, suffixCredits,
+                    minCredits, maxCredits, maxNodes, budget);
+            boolean complete = builder.expand(0, 0, 0L, 0L, 1);
+            if (builder.outOfBudget) {
+                return null;
+            }
+            budget.record(builder.size % BUDGET_CHECK_INTERVAL);
+            if (!complete) {
+                return TOO_LARGE;
+            }
+            return new TypePlan(Arrays.copyOf(builder.index, builder.size),
+                    Arrays.copyOf(builder.depth, builder.size),
+                    Arrays.copyOf(builder.skip, builder.size),
+                    builder.maxDepth);
+        }
+
+        private static final class Builder {
+            private final int[] credits;
+            private final long[] maskLow;
+            private final long[] maskHigh;
+            private final int[] groups;
+            private final boolean[] groupUsed;
+            private final int[] suffixCredits;
+            private final int minCredits;
+            private final int maxCredits;
+            private final int maxNodes;
+            private final SearchBudget budget;
+            private boolean outOfBudget;
+
+            private int[] index = new int[64];
+            private int[] depth = new int[64];
+            private int[] skip = new int[64];
+            private int size;
+            private int maxDepth;
+
+            Builder(int[] credits, long[] maskLow, long[] maskHigh, int[] groups, int groupCount,
+                    int[] suffixCredits, int minCredits, int maxCredits, int maxNodes, SearchBudget budget) {
+                this.credits = credits;
+                this.maskLow = maskLow;
+                this.maskHigh = maskHigh;
+                this.groups = groups;
+                this.groupUsed = new boolean[groupCount];
+                this.suffixCredits = suffixCredits;
+                this.minCredits = minCredits;
+                this.maxCredits = maxCredits;
+                this.maxNodes = maxNodes;
+                this.budget = budget;
+            }
+
+            // 노드 수 한도나 탐색 예산을 넘으면 false
+            boolean expand(int start, int picked, long low, long high, int d) {
+                if (picked >= maxCredits) return true;
+                for (int i = start; i < credits.length; i++) {
+                    if (picked + suffixCredits[i] < minCredits) return true;
+                    if (picked + credits[i] > maxCredits) continue;
+                    if (groupUsed[groups[i]]) continue;
+                    if ((low & maskLow[i]) != 0L || (high & maskHigh[i]) != 0L) continue;
+
+                    if (size >= maxNodes) return false;
+                    if (size % BUDGET_CHECK_INTERVAL == BUDGET_CHECK_INTERVAL - 1 && !budget.tryConsume(BUDGET_CHECK_INTERVAL)) {
+                        outOfBudget = true;
+                        return false;
+                    }
+                    int k = size++;
+                    if (k == index.length) grow();
+                    index[k] = i;
+                    depth[k] = d;
+                    maxDepth = Math.max(maxDepth, d);
+
+                    groupUsed[groups[i]] = true;
+                    boolean ok = expand(i + 1, picked + credits[i], low | maskLow[i], high | maskHigh[i], d + 1);
+                    groupUsed[groups[i]] = false;
+                    if (!ok) return false;
+                    skip[k] = size;
+                }
+                return true;
+            }
+
+            private void grow() {
+                int capacity = Math.min(Math.max(index.length * 2, 64), Math.max(maxNodes, 64));
+                index = Arrays.copyOf(index, capacity);
+                depth = Arrays.copyOf(depth, capacity);
+                skip = Arrays.copyOf(skip, capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.cesco.scheduly.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 정보(UserProfileSnapshot), 설정(UserPreferenceSnapshot), 과목 선택(CourseSelectionSnapshot),
+ * 저장된 시간표(SavedTimetableSnapshot) 조회용 2단 캐시.
+ * <p>
+ * 1단은 HTTP 요청 하나 동안 유지되는 식별자 맵으로, 같은 요청 안에서 같은 사용자를 여러 번 읽어도 DB를 한 번만 조회한다.
+ * 2단은 프로세스 전체가 공유하는 캐시로, 최대 maxEntries 개(가장 오래 사용하지 않은 항목부터 제거)를 ttl 동안 보관해
+ * 메인 페이지 폴링처럼 반복되는 PK 조회를 흡수한다. 요청 스레드가 아니면(추천 작업 스레드 등) 2단만 사용한다.
+ * <p>
+ * 캐시된 값은 여러 요청이 공유하므로 엔티티가 아닌 읽기 전용 스냅샷만 넣는다.
+ * (분리된 엔티티는 지연 로딩 연관을 건드리는 순간 LazyInitializationException 이 난다.)
+ * 값을 바꾸는 쪽은 DB에서 새로 읽어 저장한 뒤 {@link #invalidate(Long)} 를 호출해야 한다.
+ */
+@Component
+public class UserReadCache {
+
+    private static final String REQUEST_ATTRIBUTE = UserReadCache.class.getName() + ".identityMap";
+
+    private record Key(Class<?> type, Long userId) {
+    }
+
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+
+    private final Map<Key, Entry> entries;
+    private final long ttlNanos;
+    // 무효화 횟수. DB에서 읽는 도중 무효화가 있었다면 읽은 값이 이미 오래된 것일 수 있으므로 공유 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserReadCache(@Value("${scheduly.user-cache.max-entries:10000}") int maxEntries,
+                         @Value("${scheduly.user-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    // 캐시에 있으면 캐시 값을, 없거나 만료되었으면 loader 로 읽어 두 단계에 모두 넣고 반환한다.
+    public <T> T get(Class<T> type, Long userId, Supplier<T> loader) {
+        Key key = new Key(type, userId);
+        Map<Key, Object> identityMap = identityMap();
+        if (identityMap != null) {
+            Object value = identityMap.get(key);
+            if (value != null) {
+                return type.cast(value);
+            }
+        }
+
+        T value = null;
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (System.nanoTime() - entry.expiresAtNanos() > 0) {
+                entries.remove(key, entry);
+            } else {
+                value = type.cast(entry.value());
+            }
+        }
+        if (value == null) {
+            long invalidationsBefore = invalidations.get();
+            value = loader.get();
+            if (invalidations.get() == invalidationsBefore) {
+                entries.put(key, new Entry(value, System.nanoTime() + ttlNanos));
+            }
+        }
+        if (identityMap != null) {
+            identityMap.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 해당 사용자의 모든 항목을 두 단계에서 모두 비운다. 트랜잭션 안에서 호출하면 커밋 뒤에 한 번 더 비워,
+     * 커밋 전에 다른 요청이 이전 값을 읽어 넣어 둔 항목도 남지 않게 한다.
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    private void evict(Long userId) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.userId().equals(userId));
+        }
+        Map<Key, Object> identityMap = identityMap();
+        if (identityMap != null) {
+            identityMap.keySet().removeIf(key -> key.userId().equals(userId));
+        }
+    }
+
+    // 현재 스레드가 처리 중인 요청의 식별자 맵. 요청 스레드가 아니면 null
+    @SuppressWarnings("unchecked")
+    private static Map<Key, Object> identityMap() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<Key, Object> identityMap = (Map<Key, Object>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (identityMap == null) {
+            identityMap = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, identityMap, RequestAttributes.SCOPE_REQUEST);
+        }
+        return identityMap;
+    }
+}
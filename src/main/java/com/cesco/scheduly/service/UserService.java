@@ -9,6 +9,8 @@ import com.cesco.scheduly.dto.user.MainPageInfoResponse;
 import com.cesco.scheduly.dto.user.MyPageResponse;
 import com.cesco.scheduly.dto.user.MyPageUpdateRequest;
 import com.cesco.scheduly.dto.user.SignupRequest;
+import com.cesco.scheduly.entity.SavedTimetableCourse;
+import com.cesco.scheduly.entity.SavedTimetableEntity;
 import com.cesco.scheduly.entity.User;
 import com.cesco.scheduly.entity.UserCourseSelectionEntity;
 import com.cesco.scheduly.entity.UserPreferenceEntity;
@@ -17,21 +19,27 @@ import com.cesco.scheduly.enums.FusionMajorModule;
 import com.cesco.scheduly.exception.AuthenticationException;
 import com.cesco.scheduly.exception.ResourceNotFoundException;
 import com.cesco.scheduly.exception.UserAlreadyExistsException;
+import com.cesco.scheduly.model.CourseSelectionSnapshot;
 import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.cesco.scheduly.model.SavedTimetableSnapshot;
+import com.cesco.scheduly.model.UserPlanningContext;
+import com.cesco.scheduly.model.UserPreferenceSnapshot;
+import com.cesco.scheduly.model.UserProfileSnapshot;
+import com.cesco.scheduly.repository.SavedTimetableRepository;
 import com.cesco.scheduly.repository.UserCourseSelectionRepository;
 import com.cesco.scheduly.repository.UserPreferenceRepository;
 import com.cesco.scheduly.repository.UserRepository;
 import com.cesco.scheduly.util.GraduationRequirementUtil;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,23 +52,34 @@ public class UserService {
     private final UserPreferenceRepository userPreferenceRepository;
     private final CourseDataService courseDataService;
 
-    private final ObjectMapper objectMapper; // JSON 변환을 위해 ObjectMapper 주입
+    private final SavedTimetableRepository savedTimetableRepository;
 
     private final PasswordEncoder passwordEncoder;
 
+    private final RecommendationCache recommendationCache; // 추천 입력이 바뀌면 캐시된 추천 결과를 비움
+
+    private final UserReadCache userReadCache; // 사용자/설정/과목 선택 조회 캐시 (요청 단위 + 공유 TTL)
+
+    @Value("${scheduly.saved-timetables.max-per-user:10}")
+    private int maxSavedTimetables = 10;
+
     @Autowired
     public UserService(UserRepository userRepository,
                        UserCourseSelectionRepository userCourseSelectionRepository,
                        UserPreferenceRepository userPreferenceRepository,
                        PasswordEncoder passwordEncoder,
                        CourseDataService courseDataService,
-                       ObjectMapper objectMapper) {
+                       SavedTimetableRepository savedTimetableRepository,
+                       RecommendationCache recommendationCache,
+                       UserReadCache userReadCache) {
         this.userRepository = userRepository;
         this.userCourseSelectionRepository = userCourseSelectionRepository;
         this.userPreferenceRepository = userPreferenceRepository;
         this.passwordEncoder = passwordEncoder;
-        this.objectMapper = objectMapper;
+        this.savedTimetableRepository = savedTimetableRepository;
         this.courseDataService = courseDataService;
+        this.recommendationCache = recommendationCache;
+        this.userReadCache = userReadCache;
     }
 
     @Transactional
@@ -137,7 +156,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public MainPageInfoResponse getMainPageInfo(Long userId) {
-        User user = getUserDetails(userId);
+        UserProfileSnapshot user = getUserDetails(userId);
         return new MainPageInfoResponse(
                 user.getName(),
                 user.getStudentId(),
@@ -147,18 +166,63 @@ public class UserService {
                 user.getDoubleMajor()
         );
     }
+    /**
+     * 시간표를 새로 저장하고 저장 번호를 반환한다. 학수번호, 과목 유형, 학점만 행으로 저장한다.
+     * 사용자당 maxSavedTimetables 개를 넘으면 가장 오래된 것부터 지운다.
+     */
     @Transactional
-    public void saveTimetable(Long userId, RecommendedTimetableDto timetableDto) {
-        UserPreferenceEntity userPref = getUserPreference(userId);
-        try {
-            String timetableJson = objectMapper.writeValueAsString(timetableDto);
-            userPref.setSavedTimetableJson(timetableJson);
-            userPreferenceRepository.save(userPref);
-            logger.info("User ID {}: 시간표가 성공적으로 저장되었습니다.", userId);
-        } catch (JsonProcessingException e) {
-            logger.error("User ID {}: 시간표를 JSON으로 변환하는 중 오류 발생", userId, e);
-            throw new RuntimeException("시간표 저장 중 오류가 발생했습니다.");
+    public Long saveTimetable(Long userId, RecommendedTimetableDto timetableDto) {
+        User user = loadUser(userId);
+        List<SavedTimetableCourse> courses = timetableDto.getScheduledCourses() == null ? new ArrayList<>()
+                : timetableDto.getScheduledCourses().stream()
+                .map(course -> new SavedTimetableCourse(course.getCourseCode(), course.getDepartment(), course.getCredits()))
+                .collect(Collectors.toList());
+        SavedTimetableEntity saved = savedTimetableRepository.save(SavedTimetableEntity.builder()
+                .user(user)
+                .courses(courses)
+                .creditsByType(timetableDto.getCreditsByType() != null ? new LinkedHashMap<>(timetableDto.getCreditsByType()) : new LinkedHashMap<>())
+                .totalCredits(timetableDto.getTotalCredits())
+                .score(timetableDto.getScore())
+                .build());
+
+        List<Long> savedIds = savedTimetableRepository.findIdsByUserId(userId);
+        if (savedIds.size() > maxSavedTimetables) {
+            savedTimetableRepository.deleteAllById(savedIds.subList(maxSavedTimetables, savedIds.size()));
         }
+
+        // 이전 형식(JSON)으로 저장된 시간표가 남아 있으면 지운다. 이제부터는 행으로 저장한 시간표를 읽는다.
+        userPreferenceRepository.findByUserId(userId)
+                .filter(preference -> preference.getSavedTimetableJson() != null)
+                .ifPresent(preference -> preference.setSavedTimetableJson(null));
+
+        invalidateUserReads(userId);
+        logger.info("User ID {}: 시간표가 성공적으로 저장되었습니다. (저장 번호 {})", userId, saved.getId());
+        return saved.getId();
+    }
+
+    // 가장 최근에 저장한 시간표 (과목 목록 포함). 없으면 null
+    @Transactional(readOnly = true)
+    public SavedTimetableSnapshot getLatestSavedTimetable(Long userId) {
+        return cached(SavedTimetableSnapshot.class, userId, () -> savedTimetableRepository.findLatestIdByUserId(userId)
+                .flatMap(savedTimetableRepository::findWithCoursesById)
+                .map(SavedTimetableSnapshot::of)
+                .orElse(null));
+    }
+
+    // 저장한 시간표 전체 (최근 것부터)
+    @Transactional(readOnly = true)
+    public List<SavedTimetableSnapshot> getSavedTimetables(Long userId) {
+        return savedTimetableRepository.findByUser_IdOrderByIdDesc(userId).stream()
+                .map(SavedTimetableSnapshot::of)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void deleteSavedTimetable(Long userId, Long timetableId) {
+        SavedTimetableEntity saved = savedTimetableRepository.findByIdAndUser_Id(timetableId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("저장된 시간표를 찾을 수 없습니다. ID: " + timetableId));
+        savedTimetableRepository.delete(saved);
+        invalidateUserReads(userId);
     }
 
     @Transactional(readOnly = true)
@@ -177,8 +241,28 @@ public class UserService {
         return user;
     }
 
+    // 조회 전용. 요청 단위/공유 캐시를 거치므로 엔티티 대신 스냅샷을 반환한다. (변경은 loadUser 로 새로 읽어서)
     @Transactional(readOnly = true)
-    public User getUserDetails(Long userId) { // User의 PK는 Long 타입
+    public UserProfileSnapshot getUserDetails(Long userId) { // User의 PK는 Long 타입
+        return cached(UserProfileSnapshot.class, userId, () -> UserProfileSnapshot.of(loadUser(userId)));
+    }
+
+    // 세 과목 목록 전체가 필요할 때. 쿼리 한 번으로 읽은 스냅샷을 캐시한다.
+    @Transactional(readOnly = true)
+    public CourseSelectionSnapshot getCourseSelection(Long userId) {
+        return cached(CourseSelectionSnapshot.class, userId, () -> loadCourseSelection(userId));
+    }
+
+    @Transactional(readOnly = true)
+    public UserPreferenceSnapshot getUserPreference(Long userId) {
+        return cached(UserPreferenceSnapshot.class, userId, () -> UserPreferenceSnapshot.of(loadUserPreference(userId)));
+    }
+
+    private <T> T cached(Class<T> type, Long userId, Supplier<T> loader) {
+        return userReadCache != null ? userReadCache.get(type, userId, loader) : loader.get();
+    }
+
+    private User loadUser(Long userId) {
         logger.debug("Fetching user details for user ID: {}", userId);
         return userRepository.findById(userId)
                 .orElseThrow(() -> {
@@ -187,9 +271,8 @@ public class UserService {
                 });
     }
 
-    @Transactional(readOnly = true)
-    public UserCourseSelectionEntity getUserCourseSelection(Long userId) {
-        User user = getUserDetails(userId); // 사용자 존재 확인 선행
+    private UserCourseSelectionEntity loadUserCourseSelection(Long userId) {
+        User user = loadUser(userId); // 사용자 존재 확인 선행
         return userCourseSelectionRepository.findByUser(user) // User 객체로 조회
                 .orElseGet(() -> {
                     logger.warn("UserCourseSelectionEntity not found for user ID: {}. Creating new one.", userId);
@@ -198,9 +281,8 @@ public class UserService {
                 });
     }
 
-    @Transactional(readOnly = true)
-    public UserPreferenceEntity getUserPreference(Long userId) {
-        User user = getUserDetails(userId);
+    private UserPreferenceEntity loadUserPreference(Long userId) {
+        User user = loadUser(userId);
         return userPreferenceRepository.findByUser(user) // User 객체로 조회
                 .orElseGet(() -> {
                     logger.warn("UserPreferenceEntity not found for user ID: {}. Creating new one.", userId);
@@ -209,16 +291,49 @@ public class UserService {
                 });
     }
 
+    /**
+     * 시간표 추천에 필요한 사용자 입력을 쿼리 두 번으로 읽는다.
+     * 설정 행은 사용자와 조인해 함께 읽고, 세 과목 목록은 UNION ALL 쿼리 하나로 읽는다.
+     * 설정 행이 아직 없는 사용자만 기존 조회(없으면 생성) 경로를 탄다.
+     */
+    @Transactional(readOnly = true)
+    public UserPlanningContext loadPlanningContext(Long userId) {
+        UserPreferenceEntity preference = userPreferenceRepository.findWithUserByUserId(userId)
+                .orElseGet(() -> loadUserPreference(userId));
+
+        CourseSelectionSnapshot selection = loadCourseSelection(userId);
+        return new UserPlanningContext(preference.getUser(), selection.getTakenCourses(), selection.getMandatoryCourses(),
+                selection.getRetakeCourses(), preference.getTimePreferences(), preference.getCreditSettings());
+    }
+
+    // 세 과목 목록을 UNION ALL 쿼리 한 번으로 읽는다. 선택 행이 없으면 빈 목록이다.
+    private CourseSelectionSnapshot loadCourseSelection(Long userId) {
+        List<String> taken = new ArrayList<>();
+        List<String> mandatory = new ArrayList<>();
+        List<String> retake = new ArrayList<>();
+        for (Object[] row : userCourseSelectionRepository.findCourseCodesByUserId(userId)) {
+            String courseCode = (String) row[1];
+            switch (String.valueOf(row[0])) {
+                case "T" -> taken.add(courseCode);
+                case "M" -> mandatory.add(courseCode);
+                case "R" -> retake.add(courseCode);
+                default -> logger.warn("알 수 없는 과목 목록 구분: {}", row[0]);
+            }
+        }
+        return new CourseSelectionSnapshot(taken, mandatory, retake);
+    }
+
     @Transactional
     public void saveUserCourseSelections(Long userId, PreferencesRequest dto) {
         logger.info("Saving course selections for user ID: {}", userId);
-        UserCourseSelectionEntity selection = getUserCourseSelection(userId);
+        UserCourseSelectionEntity selection = loadUserCourseSelection(userId);
 
-        selection.setTakenCourses(dto.getCompleted_lectures() != null ? new ArrayList<>(dto.getCompleted_lectures()) : new ArrayList<>());
-        selection.setMandatoryCourses(dto.getRequired_lectures() != null ? new ArrayList<>(dto.getRequired_lectures()) : new ArrayList<>());
-        selection.setRetakeCourses(dto.getRetake_lectures() != null ? new ArrayList<>(dto.getRetake_lectures()) : new ArrayList<>());
+        replaceCourses(selection.getTakenCourses(), dto.getCompleted_lectures());
+        replaceCourses(selection.getMandatoryCourses(), dto.getRequired_lectures());
+        replaceCourses(selection.getRetakeCourses(), dto.getRetake_lectures());
 
         userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(userId);
         logger.info("Course selections saved for user ID: {}. Data: {}", userId, dto);
     }
 
@@ -234,52 +349,61 @@ public class UserService {
         return GraduationRequirementUtil.getGraduationCredits(college, admissionYear);
     }
 
+    // 목록 하나만 필요한 조회는 해당 컬렉션 테이블만 읽는다.
     @Transactional(readOnly = true)
     public List<String> getTakenCourses(Long userId) {
-        return getUserCourseSelection(userId).getTakenCourses();
+        return userCourseSelectionRepository.findTakenCourseCodesByUserId(userId);
     }
 
     @Transactional(readOnly = true)
     public List<String> getMandatoryCourses(Long userId) {
-        return getUserCourseSelection(userId).getMandatoryCourses();
+        return userCourseSelectionRepository.findMandatoryCourseCodesByUserId(userId);
     }
 
     @Transactional(readOnly = true)
     public List<String> getRetakeCourses(Long userId) {
-        return getUserCourseSelection(userId).getRetakeCourses();
+        return userCourseSelectionRepository.findRetakeCourseCodesByUserId(userId);
+    }
+
+    // 과목 수만 필요한 조회. 선택 행이 없으면 모두 0
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getCourseSelectionCounts(Long userId) {
+        return userCourseSelectionRepository.findCountsByUserId(userId)
+                .map(counts -> Map.of("taken", counts.getTaken(), "mandatory", counts.getMandatory(), "retake", counts.getRetake()))
+                .orElseGet(() -> Map.of("taken", 0, "mandatory", 0, "retake", 0));
     }
 
     @Transactional
     public void saveTimePreferences(Long userId, TimePreferenceRequest preferences) {
         logger.info("Saving time preferences for user ID: {}", userId);
-        UserPreferenceEntity userPref = getUserPreference(userId);
+        UserPreferenceEntity userPref = loadUserPreference(userId);
         userPref.setTimePreferences(preferences != null ? preferences : new TimePreferenceRequest());
         userPreferenceRepository.save(userPref);
+        invalidateRecommendations(userId);
         logger.info("Time preferences saved for user ID: {}. Data: {}", userId, preferences);
     }
 
     @Transactional(readOnly = true)
     public TimePreferenceRequest getTimePreferences(Long userId) {
-        UserPreferenceEntity userPref = getUserPreference(userId);
-        TimePreferenceRequest prefs = userPref.getTimePreferences();
-        return prefs == null ? new TimePreferenceRequest() : prefs;
+        return getUserPreference(userId).getTimePreferences();
     }
 
     @Transactional
     public void saveCreditAndCombinationPreferences(Long userId, CreditSettingsRequest settings) {
         logger.info("Saving credit and combination preferences for user ID: {}", userId);
 
-        User user = getUserDetails(userId);
+        UserProfileSnapshot user = getUserDetails(userId);
 
         validateCreditSettings(settings, user);
 
-        UserPreferenceEntity userPref = getUserPreference(userId);
+        UserPreferenceEntity userPref = loadUserPreference(userId);
         userPref.setCreditSettings(settings != null ? settings : new CreditSettingsRequest());
         userPreferenceRepository.save(userPref);
+        invalidateRecommendations(userId);
         logger.info("Credit and combination preferences saved for user ID: {}. Data: {}", userId, settings);
     }
 
-    private void validateCreditSettings(CreditSettingsRequest settings, User user) {
+    private void validateCreditSettings(CreditSettingsRequest settings, UserProfileSnapshot user) {
         if (settings.getCreditGoalsPerType() != null && !settings.getCreditGoalsPerType().isEmpty()) {
             DoubleMajorType userMajorType = user.getDoubleMajorType();
             Map<String, CreditRangeDto> goals = settings.getCreditGoalsPerType();
@@ -358,51 +482,115 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public CreditSettingsRequest getCreditAndCombinationPreferences(Long userId) {
-        UserPreferenceEntity userPref = getUserPreference(userId);
-        CreditSettingsRequest settings = userPref.getCreditSettings();
-        return settings == null ? new CreditSettingsRequest() : settings;
+        return getUserPreference(userId).getCreditSettings();
     }
 
     @Transactional
     public void updateTakenCourses(String userId, List<String> courseCodes) {
-        UserCourseSelectionEntity selection = getUserCourseSelection(Long.valueOf(userId));
-        selection.setTakenCourses(new ArrayList<>(courseCodes));
+        UserCourseSelectionEntity selection = loadUserCourseSelection(Long.valueOf(userId));
+        replaceCourses(selection.getTakenCourses(), courseCodes);
         userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(Long.valueOf(userId));
     }
 
     @Transactional
     public void removeTakenCourses(Long userId, List<String> lecturesToRemove) {
-        UserCourseSelectionEntity selection = getUserCourseSelection(userId);
-        selection.getTakenCourses().removeAll(lecturesToRemove);
+        UserCourseSelectionEntity selection = loadUserCourseSelection(userId);
+        changeCourses(selection.getTakenCourses(), null, lecturesToRemove);
         userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(userId);
+    }
+
+    // 지정한 학수번호만 더하고 뺀다. 바뀐 행만 INSERT/DELETE 된다.
+    @Transactional
+    public void changeTakenCourses(Long userId, List<String> lecturesToAdd, List<String> lecturesToRemove) {
+        UserCourseSelectionEntity selection = loadUserCourseSelection(userId);
+        changeCourses(selection.getTakenCourses(), lecturesToAdd, lecturesToRemove);
+        userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(userId);
     }
 
     @Transactional
     public void updateMandatoryCourses(String userId, List<String> courseCodes) {
-        UserCourseSelectionEntity selection = getUserCourseSelection(Long.valueOf(userId));
-        selection.setMandatoryCourses(new ArrayList<>(courseCodes));
+        UserCourseSelectionEntity selection = loadUserCourseSelection(Long.valueOf(userId));
+        replaceCourses(selection.getMandatoryCourses(), courseCodes);
         userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(Long.valueOf(userId));
     }
 
     @Transactional
     public void removeMandatoryCourses(Long userId, List<String> lecturesToRemove) {
-        UserCourseSelectionEntity selection = getUserCourseSelection(userId);
-        selection.getMandatoryCourses().removeAll(lecturesToRemove);
+        UserCourseSelectionEntity selection = loadUserCourseSelection(userId);
+        changeCourses(selection.getMandatoryCourses(), null, lecturesToRemove);
         userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(userId);
+    }
+
+    // 지정한 학수번호만 더하고 뺀다. 바뀐 행만 INSERT/DELETE 된다.
+    @Transactional
+    public void changeMandatoryCourses(Long userId, List<String> lecturesToAdd, List<String> lecturesToRemove) {
+        UserCourseSelectionEntity selection = loadUserCourseSelection(userId);
+        changeCourses(selection.getMandatoryCourses(), lecturesToAdd, lecturesToRemove);
+        userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(userId);
     }
 
     @Transactional
     public void updateRetakeCourses(String userId, List<String> courseCodes) {
-        UserCourseSelectionEntity selection = getUserCourseSelection(Long.valueOf(userId));
-        selection.setRetakeCourses(new ArrayList<>(courseCodes));
+        UserCourseSelectionEntity selection = loadUserCourseSelection(Long.valueOf(userId));
+        replaceCourses(selection.getRetakeCourses(), courseCodes);
         userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(Long.valueOf(userId));
     }
 
     @Transactional
     public void removeRetakeCourses(Long userId, List<String> lecturesToRemove) {
-        UserCourseSelectionEntity selection = getUserCourseSelection(userId);
-        selection.getRetakeCourses().removeAll(lecturesToRemove);
+        UserCourseSelectionEntity selection = loadUserCourseSelection(userId);
+        changeCourses(selection.getRetakeCourses(), null, lecturesToRemove);
+        userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(userId);
+    }
+
+    // 지정한 학수번호만 더하고 뺀다. 바뀐 행만 INSERT/DELETE 된다.
+    @Transactional
+    public void changeRetakeCourses(Long userId, List<String> lecturesToAdd, List<String> lecturesToRemove) {
+        UserCourseSelectionEntity selection = loadUserCourseSelection(userId);
+        changeCourses(selection.getRetakeCourses(), lecturesToAdd, lecturesToRemove);
         userCourseSelectionRepository.save(selection);
+        invalidateRecommendations(userId);
+    }
+
+    // 과목 집합을 courseCodes 와 같게 맞춘다. 집합을 새로 만들어 교체하면 Hibernate 가 목록 전체를 지우고 다시 넣으므로,
+    // 기존 집합에서 빠진 것만 지우고 새로 생긴 것만 더한다.
+    private static void replaceCourses(Set<String> courses, Collection<String> courseCodes) {
+        Set<String> wanted = courseCodes == null ? new LinkedHashSet<>() : courseCodes.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        courses.retainAll(wanted);
+        courses.addAll(wanted);
+    }
+
+    private static void changeCourses(Set<String> courses, Collection<String> toAdd, Collection<String> toRemove) {
+        if (toRemove != null) {
+            courses.removeAll(new HashSet<>(toRemove)); // 목록 인자에 removeAll 을 하면 원소마다 목록을 훑는다.
+        }
+        if (toAdd != null) {
+            toAdd.stream().filter(Objects::nonNull).forEach(courses::add);
+        }
+    }
+
+    // 추천 입력이 바뀌면 캐시된 추천 결과와 사용자 조회 캐시를 함께 비운다.
+    private void invalidateRecommendations(Long userId) {
+        if (recommendationCache != null) {
+            recommendationCache.invalidate(userId);
+        }
+        invalidateUserReads(userId);
+    }
+
+    private void invalidateUserReads(Long userId) {
+        if (userReadCache != null) {
+            userReadCache.invalidate(userId);
+        }
     }
 
     private List<String> removeByIndexes(List<String> original, List<Long> indexes) {
@@ -428,7 +616,7 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public MyPageResponse getMyPageInfo(Long userId) {
-        User user = getUserDetails(userId); // 이미 존재하는 메소드
+        UserProfileSnapshot user = getUserDetails(userId); // 이미 존재하는 메소드
 
         return new MyPageResponse(
                 user.getName(),
@@ -447,7 +635,7 @@ public class UserService {
 
     @Transactional
     public void updateMyPageInfo(Long userId, MyPageUpdateRequest dto) {
-        User user = getUserDetails(userId);
+        User user = loadUser(userId);
 
         user.setName(dto.getName());
         user.setCollege(dto.getCollege());
@@ -461,33 +649,20 @@ public class UserService {
         user.setSemester(dto.getSemester());
 
         userRepository.save(user);
+        invalidateRecommendations(userId);
     }
 
     // UserService.java 내부에 추가
 
     @Transactional(readOnly = true)
     public List<String> getRequiredAndRetakeCourses(Long userId) {
-        UserCourseSelectionEntity selection = getUserCourseSelection(userId);
-        List<String> combinedList = new ArrayList<>();
-        if (selection.getMandatoryCourses() != null) {
-            combinedList.addAll(selection.getMandatoryCourses());
-        }
-        if (selection.getRetakeCourses() != null) {
-            combinedList.addAll(selection.getRetakeCourses());
-        }
+        CourseSelectionSnapshot selection = getCourseSelection(userId);
+        List<String> combinedList = new ArrayList<>(selection.getMandatoryCourses());
+        combinedList.addAll(selection.getRetakeCourses());
         return combinedList.stream().distinct().collect(Collectors.toList());
     }
 
-    public UserCourseSelectionEntity getUserCourseSelectionByUserId(Long userId) {
-        return userCourseSelectionRepository.findByUser_Id(userId)
-                .orElseThrow(() -> new NoSuchElementException("선택 과목 정보가 존재하지 않습니다. userId = " + userId));
-    }
-
     public List<DetailedCourseInfo> getTakenCoursesWithDetails(Long userId) {
-        List<String> codes = getTakenCourses(userId);
-        return codes.stream()
-                .map(courseDataService::getDetailedCourseByCode)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        return courseDataService.getDetailedCoursesByCodes(getTakenCourses(userId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package com.cesco.scheduly.util;
+
+import java.util.Map;
+
+/**
+ * 한글 초성/자모 변환. 완성형 음절(가~힣)은 공식 (음절 - 0xAC00) = (초성 * 21 + 중성) * 28 + 종성 으로 분해하고,
+ * 결과는 호환 자모(ㄱ, ㅏ 등 키보드로 입력되는 글자)로 표현한다. 한글이 아닌 글자는 그대로 둔다.
+ */
+public class HangulUtil {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSUNG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ"; // 0번은 받침 없음
+
+    // 겹받침/이중 모음은 낱자로 나눈다. "달" 까지 입력한 상태에서도 "닭" 이 찾아지도록 하기 위함
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"),
+            Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    // 호환 자모 자음 (ㄱ ~ ㅎ)
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // 비어 있지 않고 모든 글자가 자음이면 true. 예: "ㅈㄹㄱㅈ"
+    public static boolean isChosungOnly(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!isConsonant(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 각 음절을 초성으로 바꾼다. 예: "자료구조" -> "ㅈㄹㄱㅈ"
+    public static String toChosung(String value) {
+        StringBuilder chosung = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            chosung.append(isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_FIRST) / (21 * 28)) : c);
+        }
+        return chosung.toString();
+    }
+
+    // 자모 단위로 풀어 쓴다. 예: "자료" -> "ㅈㅏㄹㅛ", "닭" -> "ㄷㅏㄹㄱ"
+    public static String toJamo(String value) {
+        StringBuilder jamo = new StringBuilder(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_FIRST;
+                jamo.append(CHOSUNG.charAt(index / (21 * 28)));
+                appendJamo(jamo, JUNGSUNG.charAt(index % (21 * 28) / 28));
+                if (index % 28 != 0) {
+                    appendJamo(jamo, JONGSUNG.charAt(index % 28));
+                }
+            } else {
+                appendJamo(jamo, c);
+            }
+        }
+        return jamo.toString();
+    }
+
+    private static void appendJamo(StringBuilder jamo, char c) {
+        String split = COMPOUND_JAMO.get(c);
+        if (split != null) {
+            jamo.append(split);
+        } else {
+            jamo.append(c);
+        }
+    }
+}
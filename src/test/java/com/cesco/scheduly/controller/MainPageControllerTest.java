@@ -7,8 +7,10 @@ import com.cesco.scheduly.entity.User;
 import com.cesco.scheduly.entity.UserPreferenceEntity;
 import com.cesco.scheduly.enums.College;
 import com.cesco.scheduly.enums.DoubleMajorType;
+import com.cesco.scheduly.repository.SavedTimetableRepository;
 import com.cesco.scheduly.repository.UserPreferenceRepository;
 import com.cesco.scheduly.repository.UserRepository;
+import com.cesco.scheduly.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,12 +39,15 @@ class MainPageControllerTest {
     @Autowired private ObjectMapper objectMapper;
     @Autowired private UserRepository userRepository;
     @Autowired private UserPreferenceRepository userPreferenceRepository;
+    @Autowired private SavedTimetableRepository savedTimetableRepository;
+    @Autowired private UserService userService;
 
     private User testUser;
 
     @BeforeEach
     void setUp() {
         // 테스트 독립성을 위해 매번 관련 데이터 삭제
+        savedTimetableRepository.deleteAll();
         userPreferenceRepository.deleteAll();
         userRepository.deleteAll();
 
@@ -85,7 +90,7 @@ class MainPageControllerTest {
         Long userId = testUser.getId();
         ScheduledCourseDto course = new ScheduledCourseDto("M01201101", "통계모델링", "전공", 3, "장혜진", "2515", "",
                 List.of(new TimeSlotDto("Wed", List.of(4, 5, 6))));
-        RecommendedTimetableDto savedTimetable = new RecommendedTimetableDto(1, List.of(course), Map.of("전공", 3), 3);
+        RecommendedTimetableDto savedTimetable = new RecommendedTimetableDto(1L, List.of(course), Map.of("전공", 3), 3);
         String timetableJson = objectMapper.writeValueAsString(savedTimetable);
 
         UserPreferenceEntity preference = UserPreferenceEntity.builder()
@@ -105,6 +110,28 @@ class MainPageControllerTest {
                 .andExpect(jsonPath("$.timetable.scheduledCourses[0].courseCode").value("M01201101"));
     }
 
+    @Test
+    @WithMockUser
+    @DisplayName("행으로 저장한 시간표는 학수번호만 저장하고, 메인페이지에서 과목 정보를 카탈로그로 채운다")
+    void should_hydrate_saved_timetable_rows_from_catalog() throws Exception {
+        // given: 과목명/교수/시간을 비운 채 저장해도 조회 시 카탈로그 값으로 채워져야 한다
+        Long userId = testUser.getId();
+        userPreferenceRepository.save(UserPreferenceEntity.builder().user(testUser).build());
+        ScheduledCourseDto course = new ScheduledCourseDto("M01201101", null, "전공", 3, null, null, null, List.of());
+        Long timetableId = userService.saveTimetable(userId, new RecommendedTimetableDto(1L, List.of(course), Map.of("전공", 3), 3));
+
+        mockMvc.perform(get("/users/" + userId + "/main/content"))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.hasTimetable").value(true))
+                .andExpect(jsonPath("$.timetable.timetableId").value(timetableId))
+                .andExpect(jsonPath("$.timetable.totalCredits").value(3))
+                .andExpect(jsonPath("$.timetable.creditsByType.전공").value(3))
+                .andExpect(jsonPath("$.timetable.scheduledCourses[0].courseName").value("통계모델링"))
+                .andExpect(jsonPath("$.timetable.scheduledCourses[0].professor").value("장혜진"))
+                .andExpect(jsonPath("$.timetable.scheduledCourses[0].actualClassTimes").isNotEmpty());
+    }
+
     @Test
     @WithMockUser
     @DisplayName("저장된 시간표가 없을 때, '시간표 없음' 메시지를 반환하는지 테스트")
@@ -17,6 +17,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -69,6 +70,22 @@ class PreferencesControllerTest {
 
             Mockito.verify(userService).removeTakenCourses(1L, lectures);
         }
+
+        @Test
+        @DisplayName("기수강 과목 일부 추가/삭제")
+        void changeCompletedLectures() throws Exception {
+            String body = objectMapper.writeValueAsString(Map.of("add", List.of("ENG101"), "remove", List.of("MATH202")));
+
+            mockMvc.perform(patch("/preferences/completed")
+                            .param("userId", "1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("completed_changed"))
+                    .andDo(print());
+
+            Mockito.verify(userService).changeTakenCourses(1L, List.of("ENG101"), List.of("MATH202"));
+        }
     }
 
     @Nested
@@ -0,0 +1,102 @@
+package com.cesco.scheduly.controller;
+
+import com.cesco.scheduly.entity.User;
+import com.cesco.scheduly.entity.UserCourseSelectionEntity;
+import com.cesco.scheduly.enums.College;
+import com.cesco.scheduly.enums.DoubleMajorType;
+import com.cesco.scheduly.repository.SavedTimetableRepository;
+import com.cesco.scheduly.repository.UserCourseSelectionRepository;
+import com.cesco.scheduly.repository.UserPreferenceRepository;
+import com.cesco.scheduly.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 과목 목록 조회 API 는 선택 행을 만들지 않고 목록별/개수 조회만 하므로, 실제 DB로 행 수까지 확인한다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class PreferencesReadControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserCourseSelectionRepository userCourseSelectionRepository;
+    @Autowired private UserPreferenceRepository userPreferenceRepository;
+    @Autowired private SavedTimetableRepository savedTimetableRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 독립성을 위해 매번 관련 데이터 삭제
+        savedTimetableRepository.deleteAll();
+        userPreferenceRepository.deleteAll();
+        userCourseSelectionRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.save(User.builder()
+                .studentId("20258888")
+                .name("과목목록테스터")
+                .passwordHash("hashed_password")
+                .college(College.AI융합대학)
+                .major("AI데이터융합학부")
+                .doubleMajorType(DoubleMajorType.NONE)
+                .grade(2).semester(1).build());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("선택 행이 없는 사용자의 조회 API 들은 빈 목록과 0개를 돌려주고 선택 행을 만들지 않는다")
+    void readEndpoints_doNotCreateSelectionRow() throws Exception {
+        String userId = String.valueOf(testUser.getId());
+
+        mockMvc.perform(get("/preferences/courses").param("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taken").isEmpty())
+                .andExpect(jsonPath("$.mandatory").isEmpty())
+                .andExpect(jsonPath("$.retake").isEmpty());
+        mockMvc.perform(get("/preferences/retake").param("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        mockMvc.perform(get("/preferences/retake/available").param("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        mockMvc.perform(get("/preferences/counts").param("userId", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taken").value(0))
+                .andExpect(jsonPath("$.mandatory").value(0))
+                .andExpect(jsonPath("$.retake").value(0));
+
+        assertThat(userCourseSelectionRepository.findByUser_Id(testUser.getId())).isEmpty();
+        assertThat(userCourseSelectionRepository.count()).isZero();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("목록별 과목 수 조회 테스트")
+    void counts_returnsSizeOfEachList() throws Exception {
+        UserCourseSelectionEntity selection = UserCourseSelectionEntity.builder().user(testUser).build();
+        selection.getTakenCourses().addAll(List.of("T00000001", "T00000002", "T00000003"));
+        selection.getMandatoryCourses().add("M00000001");
+        userCourseSelectionRepository.saveAndFlush(selection);
+
+        mockMvc.perform(get("/preferences/counts").param("userId", String.valueOf(testUser.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taken").value(3))
+                .andExpect(jsonPath("$.mandatory").value(1))
+                .andExpect(jsonPath("$.retake").value(0));
+    }
+}
@@ -0,0 +1,146 @@
+package com.cesco.scheduly.controller;
+
+import com.cesco.scheduly.dto.timetable.RecommendedTimetableDto;
+import com.cesco.scheduly.dto.timetable.ScheduledCourseDto;
+import com.cesco.scheduly.entity.User;
+import com.cesco.scheduly.enums.College;
+import com.cesco.scheduly.enums.DoubleMajorType;
+import com.cesco.scheduly.repository.SavedTimetableRepository;
+import com.cesco.scheduly.repository.UserPreferenceRepository;
+import com.cesco.scheduly.repository.UserRepository;
+import com.cesco.scheduly.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 사용자당 저장 개수 제한을 작게 두어 오래된 시간표가 지워지는 경우까지 확인한다.
+@SpringBootTest(properties = "scheduly.saved-timetables.max-per-user=2")
+@AutoConfigureMockMvc
+@Transactional
+class SavedTimetableControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserPreferenceRepository userPreferenceRepository;
+    @Autowired private SavedTimetableRepository savedTimetableRepository;
+    @Autowired private UserService userService;
+
+    private User owner;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 독립성을 위해 매번 관련 데이터 삭제
+        savedTimetableRepository.deleteAll();
+        userPreferenceRepository.deleteAll();
+        userRepository.deleteAll();
+
+        owner = userRepository.save(user("20259001", "저장테스터"));
+        otherUser = userRepository.save(user("20259002", "다른사용자"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("저장한 시간표 목록을 최근 것부터 저장 번호와 함께 반환하는지 테스트")
+    void should_list_saved_timetables_newest_first() throws Exception {
+        Long first = save(owner, "M01201101", 3);
+        Long second = save(owner, "V41002201", 2);
+
+        mockMvc.perform(get("/users/" + owner.getId() + "/timetable/saved"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].timetableId").value(second))
+                .andExpect(jsonPath("$[0].scheduledCourses[0].courseCode").value("V41002201"))
+                .andExpect(jsonPath("$[0].totalCredits").value(2))
+                .andExpect(jsonPath("$[1].timetableId").value(first))
+                .andExpect(jsonPath("$[1].scheduledCourses[0].courseCode").value("M01201101"));
+
+        mockMvc.perform(get("/users/" + otherUser.getId() + "/timetable/saved"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("사용자당 최대 개수를 넘겨 저장하면 가장 오래된 시간표부터 지우는지 테스트")
+    void should_trim_to_max_saved_timetables_per_user() throws Exception {
+        Long oldest = save(owner, "M01201101", 3);
+        Long middle = save(owner, "M01201102", 3);
+        Long newest = save(owner, "M01201103", 3);
+        Long othersTimetable = save(otherUser, "V41002201", 2); // 다른 사용자의 저장 개수에는 영향 없음
+
+        mockMvc.perform(get("/users/" + owner.getId() + "/timetable/saved"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].timetableId").value(newest))
+                .andExpect(jsonPath("$[1].timetableId").value(middle));
+
+        assertThat(savedTimetableRepository.existsById(oldest)).isFalse();
+        assertThat(savedTimetableRepository.existsById(othersTimetable)).isTrue();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("저장한 시간표를 삭제하면 목록에서 빠지는지 테스트")
+    void should_delete_own_saved_timetable() throws Exception {
+        Long kept = save(owner, "M01201101", 3);
+        Long deleted = save(owner, "V41002201", 2);
+
+        mockMvc.perform(delete("/users/" + owner.getId() + "/timetable/saved/" + deleted))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/" + owner.getId() + "/timetable/saved"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].timetableId").value(kept));
+        assertThat(savedTimetableRepository.existsById(deleted)).isFalse();
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("다른 사용자의 저장 번호로는 삭제할 수 없고 404 를 반환하는지 테스트")
+    void should_not_delete_other_users_saved_timetable() throws Exception {
+        Long othersTimetable = save(otherUser, "V41002201", 2);
+
+        mockMvc.perform(delete("/users/" + owner.getId() + "/timetable/saved/" + othersTimetable))
+                .andExpect(status().isNotFound());
+
+        assertThat(savedTimetableRepository.existsById(othersTimetable)).isTrue();
+        mockMvc.perform(get("/users/" + otherUser.getId() + "/timetable/saved"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].timetableId").value(othersTimetable));
+    }
+
+    private Long save(User user, String courseCode, int credits) {
+        ScheduledCourseDto course = new ScheduledCourseDto(courseCode, null, "전공", credits, null, null, null, List.of());
+        return userService.saveTimetable(user.getId(), new RecommendedTimetableDto(1L, List.of(course), Map.of("전공", credits), credits));
+    }
+
+    private User user(String studentId, String name) {
+        return User.builder()
+                .studentId(studentId)
+                .name(name)
+                .passwordHash("hashed_password")
+                .college(College.AI융합대학)
+                .major("AI데이터융합학부")
+                .doubleMajorType(DoubleMajorType.NONE)
+                .grade(3).semester(1).build();
+    }
+}
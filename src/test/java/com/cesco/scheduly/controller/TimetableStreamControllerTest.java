@@ -0,0 +1,94 @@
+package com.cesco.scheduly.controller;
+
+import com.cesco.scheduly.dto.timetable.RecommendedTimetableDto;
+import com.cesco.scheduly.dto.timetable.RecommendedTimetableResponse;
+import com.cesco.scheduly.exception.MandatoryCourseConflictException;
+import com.cesco.scheduly.service.TimetableService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 스트리밍 추천은 다른 스레드에서 실행되므로, 테스트 트랜잭션 데이터 대신 TimetableService 를 대체하여 전송 흐름만 검증한다.
+@SpringBootTest
+@AutoConfigureMockMvc
+class TimetableStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TimetableService timetableService;
+
+    @Test
+    @WithMockUser
+    @DisplayName("스트리밍 추천이 timetable 이벤트들을 보낸 뒤 summary 이벤트로 끝나는지 테스트")
+    void should_stream_timetables_then_summary() throws Exception {
+        RecommendedTimetableDto first = new RecommendedTimetableDto(1L, List.of(), Map.of("전공", 3), 3);
+        RecommendedTimetableDto second = new RecommendedTimetableDto(2L, List.of(), Map.of("전공", 6), 6);
+        given(timetableService.recommendTimetables(eq(1L), any(), any())).willAnswer(invocation -> {
+            Consumer<RecommendedTimetableDto> onTimetable = invocation.getArgument(1);
+            // 병렬 탐색처럼 다른 스레드에서 콜백이 불리는 상황
+            CompletableFuture.runAsync(() -> onTimetable.accept(first)).join();
+            CompletableFuture.runAsync(() -> onTimetable.accept(second)).join();
+            return new RecommendedTimetableResponse(List.of(second, first), "2개의 시간표를 추천합니다.");
+        });
+
+        MvcResult mvcResult = mockMvc.perform(get("/users/1/timetable/recommendations/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult(5_000);
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        String body = mvcResult.getResponse().getContentAsString();
+        int firstTimetable = body.indexOf("event:timetable");
+        int secondTimetable = body.indexOf("event:timetable", firstTimetable + 1);
+        int summary = body.indexOf("event:summary");
+        assertThat(firstTimetable).isGreaterThanOrEqualTo(0);
+        assertThat(secondTimetable).isGreaterThan(firstTimetable);
+        assertThat(summary).isGreaterThan(secondTimetable);
+        assertThat(body).contains("2개의 시간표를 추천합니다.");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("스트리밍 추천 중 필수 과목 충돌이 나면 error 이벤트를 보내고 스트림을 닫는지 테스트")
+    void should_send_error_event_when_recommendation_fails() throws Exception {
+        given(timetableService.recommendTimetables(eq(2L), any(), any()))
+                .willThrow(new MandatoryCourseConflictException("필수 과목 시간이 겹칩니다."));
+
+        MvcResult mvcResult = mockMvc.perform(get("/users/2/timetable/recommendations/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvcResult.getAsyncResult(5_000);
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        String body = mvcResult.getResponse().getContentAsString();
+        assertThat(body).contains("event:error");
+        assertThat(body).contains("필수 과목 시간이 겹칩니다.");
+        assertThat(body).doesNotContain("event:summary");
+    }
+}
@@ -0,0 +1,87 @@
+package com.cesco.scheduly.model;
+
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleMaskTest {
+
+    @Test
+    @DisplayName("영문/한글 요일이 같은 인덱스로 매핑되고, 알 수 없는 요일은 -1인지 검증")
+    void dayIndex_mapsEnglishAndKoreanDays() {
+        assertThat(ScheduleMask.dayIndex("Mon")).isEqualTo(0);
+        assertThat(ScheduleMask.dayIndex("월")).isEqualTo(0);
+        assertThat(ScheduleMask.dayIndex("Thu")).isEqualTo(3);
+        assertThat(ScheduleMask.dayIndex("목")).isEqualTo(3);
+        assertThat(ScheduleMask.dayIndex("Fri")).isEqualTo(4);
+        assertThat(ScheduleMask.dayIndex("Sun")).isEqualTo(6);
+        assertThat(ScheduleMask.dayIndex("일")).isEqualTo(6);
+        assertThat(ScheduleMask.dayIndex("Holiday")).isEqualTo(-1);
+        assertThat(ScheduleMask.dayIndex(null)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("월~목은 low, 금~일은 high 에 요일별 16비트씩 들어가는지 검증")
+    void of_splitsMonToThuIntoLowAndFriToSunIntoHigh() {
+        ScheduleMask monday = ScheduleMask.of(List.of(new TimeSlotDto("Mon", List.of(1))));
+        ScheduleMask thursday = ScheduleMask.of(List.of(new TimeSlotDto("Thu", List.of(15))));
+        ScheduleMask friday = ScheduleMask.of(List.of(new TimeSlotDto("Fri", List.of(1))));
+        ScheduleMask sunday = ScheduleMask.of(List.of(new TimeSlotDto("Sun", List.of(0))));
+
+        assertThat(monday.getLow()).isEqualTo(1L << 1);
+        assertThat(monday.getHigh()).isZero();
+        assertThat(thursday.getLow()).isEqualTo(1L << 63);
+        assertThat(thursday.getHigh()).isZero();
+        assertThat(friday.getLow()).isZero();
+        assertThat(friday.getHigh()).isEqualTo(1L << 1);
+        assertThat(sunday.getHigh()).isEqualTo(1L << 32);
+        // 금요일 1교시와 월요일 1교시는 같은 비트 위치지만 다른 long 이므로 겹치지 않는다.
+        assertThat(friday.overlaps(monday)).isFalse();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 요일, 0~15 밖의 교시, null 교시는 제외하고 나머지만 담는지 검증")
+    void of_skipsInvalidSlots() {
+        ScheduleMask mask = ScheduleMask.of(List.of(
+                new TimeSlotDto("Holiday", List.of(1)),
+                new TimeSlotDto("Tue", Arrays.asList(-1, 16, null, 2))));
+
+        assertThat(mask).isEqualTo(ScheduleMask.of(List.of(new TimeSlotDto("Tue", List.of(2)))));
+        assertThat(ScheduleMask.of(List.of(new TimeSlotDto("Holiday", List.of(1))))).isSameAs(ScheduleMask.EMPTY);
+        assertThat(ScheduleMask.of(null)).isSameAs(ScheduleMask.EMPTY);
+    }
+
+    @Test
+    @DisplayName("같은 요일의 같은 교시가 있을 때만 겹친다고 보는지 검증")
+    void overlaps_onlyOnSameDayAndPeriod() {
+        ScheduleMask wednesday = ScheduleMask.of(List.of(new TimeSlotDto("Wed", List.of(3, 4, 5))));
+        ScheduleMask wednesdayOverlap = ScheduleMask.of(List.of(new TimeSlotDto("수", List.of(5, 6))));
+        ScheduleMask wednesdayAfter = ScheduleMask.of(List.of(new TimeSlotDto("Wed", List.of(6, 7))));
+        ScheduleMask saturday = ScheduleMask.of(List.of(new TimeSlotDto("Sat", List.of(3, 4, 5))));
+
+        assertThat(wednesday.overlaps(wednesdayOverlap)).isTrue();
+        assertThat(wednesday.overlaps(wednesdayAfter)).isFalse();
+        assertThat(wednesday.overlaps(saturday)).isFalse();
+        assertThat(wednesday.overlaps(ScheduleMask.EMPTY)).isFalse();
+        assertThat(saturday.overlaps(wednesday.union(saturday))).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 교시가 다른 마스크 안에 있을 때만 부분집합으로 보는지 검증")
+    void isSubsetOf_requiresEveryPeriodInside() {
+        ScheduleMask preferred = ScheduleMask.of(List.of(
+                new TimeSlotDto("Mon", List.of(1, 2, 3)), new TimeSlotDto("Fri", List.of(5, 6))));
+
+        assertThat(ScheduleMask.of(List.of(new TimeSlotDto("Mon", List.of(2, 3)))).isSubsetOf(preferred)).isTrue();
+        assertThat(ScheduleMask.of(List.of(
+                new TimeSlotDto("Mon", List.of(1)), new TimeSlotDto("Fri", List.of(6)))).isSubsetOf(preferred)).isTrue();
+        assertThat(ScheduleMask.of(List.of(new TimeSlotDto("Fri", List.of(6, 7)))).isSubsetOf(preferred)).isFalse();
+        assertThat(ScheduleMask.of(List.of(new TimeSlotDto("Tue", List.of(1)))).isSubsetOf(preferred)).isFalse();
+        assertThat(ScheduleMask.EMPTY.isSubsetOf(preferred)).isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package com.cesco.scheduly.repository;
+
+import com.cesco.scheduly.entity.CourseEntity;
+import com.cesco.scheduly.entity.TimeSlotEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CourseRepositoryTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private void persistCourses(int from, int to) {
+        for (int i = from; i < to; i++) {
+            CourseEntity course = CourseEntity.builder()
+                    .courseCode(String.format("T%08d", i))
+                    .courseName("과목" + i)
+                    .groupId(String.format("T%06d", i))
+                    .generalizedType("교양")
+                    .credits(2)
+                    .build();
+            course.setScheduleSlots(new ArrayList<>(List.of(
+                    TimeSlotEntity.builder().course(course).day("Mon").period(1 + i % 9).build(),
+                    TimeSlotEntity.builder().course(course).day("Mon").period(2 + i % 9).build()
+            )));
+            entityManager.persist(course);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // findAllWithSlots 로 읽고 시간표 정보까지 모두 접근했을 때 실행된 SQL 문 수
+    private long statementsForFullCatalogRead(int expectedCourses) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CourseEntity> courses = courseRepository.findAllWithSlots();
+        int slotCount = courses.stream().mapToInt(course -> course.getScheduleSlots().size()).sum();
+
+        assertThat(courses).hasSize(expectedCourses);
+        assertThat(slotCount).isEqualTo(expectedCourses * 2);
+        entityManager.clear();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("findAllWithSlots 는 과목 수와 관계없이 같은 수의 쿼리로 시간표 정보까지 읽는다")
+    void findAllWithSlots_statementCountIsConstant() {
+        persistCourses(0, 5);
+        long small = statementsForFullCatalogRead(5);
+
+        persistCourses(5, 60);
+        long large = statementsForFullCatalogRead(60);
+
+        assertThat(small).isEqualTo(1);
+        assertThat(large).isEqualTo(small);
+    }
+}
@@ -0,0 +1,122 @@
+package com.cesco.scheduly.repository;
+
+import com.cesco.scheduly.entity.User;
+import com.cesco.scheduly.entity.UserCourseSelectionEntity;
+import com.cesco.scheduly.enums.College;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.cesco.scheduly.repository.UserCourseSelectionRepositoryTest$RecordingStatementInspector"
+})
+class UserCourseSelectionRepositoryTest {
+
+    // 실행된 SQL 문을 기록한다. Hibernate 가 클래스 이름으로 직접 생성하므로 기록은 static 목록에 둔다.
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+    }
+
+    @Autowired
+    private UserCourseSelectionRepository userCourseSelectionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long persistSelectionWithTakenCourses(int count) {
+        User user = User.builder()
+                .studentId("202400001")
+                .passwordHash("hash")
+                .name("테스트")
+                .college(College.경상대학)
+                .major("경제학부")
+                .grade(2)
+                .semester(1)
+                .build();
+        entityManager.persist(user);
+
+        UserCourseSelectionEntity selection = UserCourseSelectionEntity.builder().user(user).build();
+        for (int i = 0; i < count; i++) {
+            selection.getTakenCourses().add(String.format("T%08d", i));
+        }
+        selection.getRetakeCourses().addAll(List.of("R00000002", "R00000001"));
+        entityManager.persist(selection);
+        entityManager.flush();
+        entityManager.clear();
+        return user.getId();
+    }
+
+    @Test
+    @DisplayName("기수강 과목 80개에 1개를 추가하면 추가된 과목의 INSERT 한 문장만 실행된다")
+    void addOneTakenCourse_writesOnlyTheNewRow() {
+        Long userId = persistSelectionWithTakenCourses(80);
+        UserCourseSelectionEntity selection = userCourseSelectionRepository.findByUser_Id(userId).orElseThrow();
+        assertThat(selection.getTakenCourses()).hasSize(80);
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        selection.getTakenCourses().add("T99999999");
+        entityManager.flush();
+
+        List<String> writes = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> !sql.startsWith("select"))
+                .toList();
+        assertThat(writes).hasSize(1);
+        assertThat(writes.get(0)).startsWith("insert into user_taken_courses");
+    }
+
+    @Test
+    @DisplayName("엔티티 조회는 과목 목록을 읽지 않고, 목록별/개수 조회는 쿼리 한 번으로 필요한 것만 읽는다")
+    void projections_readOnlyWhatIsNeeded() {
+        Long userId = persistSelectionWithTakenCourses(80);
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        userCourseSelectionRepository.findByUser_Id(userId).orElseThrow();
+        assertThat(RecordingStatementInspector.STATEMENTS).hasSize(1);
+        assertThat(RecordingStatementInspector.STATEMENTS.get(0)).doesNotContain("user_taken_courses");
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        assertThat(userCourseSelectionRepository.findRetakeCourseCodesByUserId(userId)).containsExactly("R00000001", "R00000002");
+        assertThat(RecordingStatementInspector.STATEMENTS).hasSize(1);
+        assertThat(RecordingStatementInspector.STATEMENTS.get(0))
+                .contains("user_retake_courses")
+                .doesNotContain("user_taken_courses");
+
+        RecordingStatementInspector.STATEMENTS.clear();
+        UserCourseSelectionRepository.CourseSelectionCounts counts = userCourseSelectionRepository.findCountsByUserId(userId).orElseThrow();
+        assertThat(counts.getTaken()).isEqualTo(80);
+        assertThat(counts.getMandatory()).isZero();
+        assertThat(counts.getRetake()).isEqualTo(2);
+        assertThat(RecordingStatementInspector.STATEMENTS).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("세 목록을 한 번에 읽는 쿼리는 목록 구분, 학수번호 순으로 정렬된 행을 돌려준다")
+    void findCourseCodesByUserId_ordersByKindAndCode() {
+        Long userId = persistSelectionWithTakenCourses(3);
+
+        List<String> rows = userCourseSelectionRepository.findCourseCodesByUserId(userId).stream()
+                .map(row -> row[0] + ":" + row[1])
+                .toList();
+
+        assertThat(rows).containsExactly(
+                "R:R00000001", "R:R00000002", "T:T00000000", "T:T00000001", "T:T00000002");
+    }
+}
@@ -0,0 +1,164 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.enums.CatalogReloadState;
+import com.cesco.scheduly.repository.CourseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.cesco.scheduly.service.CourseCatalogImporterTest.course;
+import static com.cesco.scheduly.service.CourseCatalogImporterTest.json;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 운영과 같이 가져오기, 변경분 반영, 스냅샷 읽기가 각자 트랜잭션으로 커밋/롤백되도록 테스트 트랜잭션을 쓰지 않는다.
+// (테스트 트랜잭션 안에서는 JDBC 로 바꾼 행을 영속성 컨텍스트에 남은 엔티티가 가리고, 실패한 반영의 롤백도 확인할 수 없다.)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogReloadServiceTest {
+
+    private static final String DATA_STRUCTURES = course("M01207101", "자료구조", "전공", "[{\"요일\":\"Mon\",\"교시들\":[1,2]}]");
+    private static final String ALGORITHMS = course("M01207201", "알고리즘", "전공", "[{\"요일\":\"Tue\",\"교시들\":[4,5,6]}]");
+    private static final String COMPUTER_MATH = course("V41002201", "컴퓨터수학", "교양", "[{\"요일\":\"Fri\",\"교시들\":[7,8]}]");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private final List<Runnable> queuedTasks = new ArrayList<>(); // 실행기에 들어간 작업 (테스트에서 직접 실행)
+    private final RecommendationCache recommendationCache = mock(RecommendationCache.class);
+    private CourseDataService courseDataService;
+    private CourseCatalogImporter courseCatalogImporter;
+    private CatalogReloadService catalogReloadService;
+
+    @BeforeEach
+    void setUp() {
+        courseDataService = new CourseDataService(courseRepository);
+        courseCatalogImporter = new CourseCatalogImporter(jdbcTemplate, transactionManager, courseDataService);
+        catalogReloadService = new CatalogReloadService(courseDataService, courseCatalogImporter, recommendationCache, queuedTasks::add);
+    }
+
+    @Test
+    @DisplayName("추가, 수정, 삭제, 그대로인 과목을 나눠 변경분만 반영하고 새 카탈로그 버전과 함께 추천 캐시를 비우는지 검증")
+    void reload_appliesChangesAndInvalidatesCache() throws IOException {
+        courseCatalogImporter.importCourses(json(DATA_STRUCTURES, ALGORITHMS, COMPUTER_MATH));
+        long fromVersion = courseDataService.getCatalogVersion();
+
+        assertThat(catalogReloadService.submit(body(
+                DATA_STRUCTURES,                                                                      // 그대로
+                course("M01207201", "알고리즘", "전공", "[{\"요일\":\"Wed\",\"교시들\":[4,5,6]}]"),    // 요일만 바뀜
+                course("Y12345601", "글쓰기", "교양", "[{\"요일\":\"Thu\",\"교시들\":[3]}]"))))          // 추가, 컴퓨터수학은 삭제
+                .isTrue();
+        assertThat(catalogReloadService.getStatus().state()).isEqualTo(CatalogReloadState.RUNNING);
+        runQueuedTasks();
+
+        CatalogReloadService.ReloadStatus status = catalogReloadService.getStatus();
+        assertThat(status.state()).isEqualTo(CatalogReloadState.COMPLETED);
+        assertThat(status.inserted()).isEqualTo(1);
+        assertThat(status.updated()).isEqualTo(1);
+        assertThat(status.deleted()).isEqualTo(1);
+        assertThat(status.unchanged()).isEqualTo(1);
+        assertThat(status.fromVersion()).isEqualTo(fromVersion);
+        assertThat(status.toVersion()).isGreaterThan(fromVersion);
+        assertThat(courseDataService.getCatalogVersion()).isEqualTo(status.toVersion());
+
+        assertThat(courseDataService.getDetailedCourseByCode("V41002201")).isNull();
+        assertThat(courseDataService.getDetailedCourseByCode("Y12345601")).isNotNull();
+        assertThat(courseDataService.getDetailedCourseByCode("M01207201").getScheduleSlots().get(0).getDay()).isEqualTo("Wed");
+        assertThat(jdbcTemplate.queryForList("SELECT course_code FROM courses ORDER BY course_code", String.class))
+                .containsExactly("M01207101", "M01207201", "Y12345601");
+        verify(recommendationCache).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("바뀐 과목이 없으면 DB와 카탈로그 버전을 그대로 두고 추천 캐시도 비우지 않는지 검증")
+    void reload_withoutChanges_keepsVersionAndCache() throws IOException {
+        courseCatalogImporter.importCourses(json(DATA_STRUCTURES, ALGORITHMS));
+        long fromVersion = courseDataService.getCatalogVersion();
+
+        catalogReloadService.submit(body(ALGORITHMS, DATA_STRUCTURES));
+        runQueuedTasks();
+
+        CatalogReloadService.ReloadStatus status = catalogReloadService.getStatus();
+        assertThat(status.state()).isEqualTo(CatalogReloadState.COMPLETED);
+        assertThat(status.unchanged()).isEqualTo(2);
+        assertThat(status.toVersion()).isEqualTo(fromVersion);
+        assertThat(courseDataService.getCatalogVersion()).isEqualTo(fromVersion);
+        verify(recommendationCache, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("재적재가 진행 중이면 새 요청을 받지 않고, 끝난 뒤에는 다시 받는지 검증")
+    void submit_rejectedWhileRunning() throws IOException {
+        courseCatalogImporter.importCourses(json(DATA_STRUCTURES));
+
+        assertThat(catalogReloadService.submit(body(DATA_STRUCTURES, ALGORITHMS))).isTrue();
+        InputStream rejected = body(DATA_STRUCTURES);
+        assertThat(catalogReloadService.submit(rejected)).isFalse();
+        assertThat(rejected.available()).isPositive(); // 거절된 요청의 본문은 읽지 않는다.
+        assertThat(queuedTasks).hasSize(1);
+
+        runQueuedTasks();
+        assertThat(catalogReloadService.getStatus().inserted()).isEqualTo(1); // 거절된 요청이 아니라 처음 요청이 반영됨
+        assertThat(catalogReloadService.submit(body(DATA_STRUCTURES))).isTrue();
+    }
+
+    @Test
+    @DisplayName("변경분 반영 중 실패하면 앞서 실행한 삭제까지 롤백되고 이전 카탈로그를 계속 쓰는지 검증")
+    void reload_rollsBackAndKeepsCatalogOnFailure() throws IOException {
+        courseCatalogImporter.importCourses(json(DATA_STRUCTURES, ALGORITHMS, COMPUTER_MATH));
+        long fromVersion = courseDataService.getCatalogVersion();
+
+        // 컴퓨터수학 삭제가 먼저 실행된 뒤, 교과목명이 없는 알고리즘 수정이 NOT NULL 제약에 걸린다.
+        catalogReloadService.submit(body(DATA_STRUCTURES,
+                "{\"학수번호\":\"M01207201\",\"개설영역\":\"전공\",\"학점\":3,\"시간표정보\":[]}"));
+        runQueuedTasks();
+
+        assertThat(catalogReloadService.getStatus().state()).isEqualTo(CatalogReloadState.FAILED);
+        assertThat(catalogReloadService.getStatus().errorMessage()).isNotNull();
+        assertThat(jdbcTemplate.queryForList("SELECT course_code FROM courses ORDER BY course_code", String.class))
+                .containsExactly("M01207101", "M01207201", "V41002201");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM time_slots", Integer.class)).isEqualTo(7);
+        assertThat(courseDataService.getCatalogVersion()).isEqualTo(fromVersion);
+        assertThat(courseDataService.getDetailedCourseByCode("V41002201")).isNotNull();
+        verify(recommendationCache, never()).invalidateAll();
+        assertThat(catalogReloadService.submit(body(DATA_STRUCTURES))).isTrue(); // 실패 후에도 다시 받는다.
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM time_slots");
+        jdbcTemplate.update("DELETE FROM courses");
+    }
+
+    private void runQueuedTasks() {
+        List<Runnable> tasks = new ArrayList<>(queuedTasks);
+        queuedTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private InputStream body(String... courses) {
+        return new ByteArrayInputStream(("[" + String.join(",", courses) + "]").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.cesco.scheduly.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class CourseCatalogImporterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private CourseCatalogImporter courseCatalogImporter;
+
+    @BeforeEach
+    void setUp() {
+        courseCatalogImporter = new CourseCatalogImporter(jdbcTemplate, transactionManager, new CourseDataService(courseRepository));
+        ReflectionTestUtils.setField(courseCatalogImporter, "batchSize", 2); // 여러 배치로 나뉘어 들어가는 경우까지 확인
+    }
+
+    @Test
+    @DisplayName("과목 행과 시간표 행이 JSON 그대로 들어가고, 배치 경계를 넘어도 빠짐없이 들어가는지 검증")
+    void importCourses_insertsCourseAndSlotRows() {
+        CourseCatalogImporter.ImportResult result = courseCatalogImporter.importCourses(json(
+                course("M01207101", "자료구조", "전공", "[{\"요일\":\"Mon\",\"교시들\":[1,2]},{\"요일\":\"Wed\",\"교시들\":[3]}]"),
+                course("M01207201", "알고리즘", "전공", "[{\"요일\":\"Tue\",\"교시들\":[4,5,6]}]"),
+                course("Y12345601", "글쓰기", "교양", "[]"),
+                course("V41002201", "컴퓨터수학", "교양", "[{\"요일\":\"Fri\",\"교시들\":[7,8]}]")));
+
+        assertThat(result.courses()).isEqualTo(4);
+        assertThat(result.slots()).isEqualTo(7);
+        assertThat(result.skipped()).isZero();
+        assertThat(count("SELECT COUNT(*) FROM courses")).isEqualTo(4);
+        assertThat(count("SELECT COUNT(*) FROM time_slots")).isEqualTo(7);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT CONCAT(class_day, ':', period) FROM time_slots WHERE course_code = 'M01207101' ORDER BY class_day, period",
+                String.class)).containsExactly("Mon:1", "Mon:2", "Wed:3");
+
+        // groupId 와 과목 유형, 추천 제한 여부는 기존 규칙대로 채워진다.
+        assertThat(jdbcTemplate.queryForMap(
+                "SELECT group_id, generalized_type, is_restricted_course FROM courses WHERE course_code = 'M01207101'"))
+                .containsEntry("group_id", "M012071")
+                .containsEntry("generalized_type", "전공_후보")
+                .containsEntry("is_restricted_course", false);
+    }
+
+    @Test
+    @DisplayName("같은 학수번호가 다시 나오면 처음 나온 과목만 넣고, 학수번호가 없는 과목과 함께 건너뛴 수로 세는지 검증")
+    void importCourses_keepsFirstOccurrenceOfDuplicateCode() {
+        CourseCatalogImporter.ImportResult result = courseCatalogImporter.importCourses(json(
+                course("M01207101", "자료구조", "전공", "[{\"요일\":\"Mon\",\"교시들\":[1,2]}]"),
+                course("M01207101", "자료구조(중복)", "전공", "[{\"요일\":\"Thu\",\"교시들\":[5,6,7]}]"),
+                "{\"교과목명\":\"학수번호 없음\",\"개설영역\":\"교양\",\"학점\":2}",
+                course("M01207201", "알고리즘", "전공", "[{\"요일\":\"Tue\",\"교시들\":[4]}]")));
+
+        assertThat(result.courses()).isEqualTo(2);
+        assertThat(result.slots()).isEqualTo(3);
+        assertThat(result.skipped()).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM courses")).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT course_name FROM courses WHERE course_code = 'M01207101'", String.class)).isEqualTo("자료구조");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT CONCAT(class_day, ':', period) FROM time_slots WHERE course_code = 'M01207101' ORDER BY period",
+                String.class)).containsExactly("Mon:1", "Mon:2");
+    }
+
+    @Test
+    @DisplayName("변경분 반영이 추가, 수정, 삭제된 과목의 과목 행과 시간표 행만 바꾸고 나머지는 그대로 두는지 검증")
+    void applyChanges_insertsUpdatesAndDeletesOnlyChangedCourses() {
+        courseCatalogImporter.importCourses(json(
+                course("M01207101", "자료구조", "전공", "[{\"요일\":\"Mon\",\"교시들\":[1,2]}]"),
+                course("M01207201", "알고리즘", "전공", "[{\"요일\":\"Tue\",\"교시들\":[4,5,6]}]"),
+                course("V41002201", "컴퓨터수학", "교양", "[{\"요일\":\"Fri\",\"교시들\":[7,8]}]")));
+
+        DetailedCourseInfo inserted = detailed("Y12345601", "글쓰기", "교양", new TimeSlotDto("Thu", List.of(3, 4)));
+        DetailedCourseInfo updated = detailed("M01207201", "알고리즘(개정)", "전공", new TimeSlotDto("Wed", List.of(1)));
+
+        CourseCatalogImporter.ApplyResult result = courseCatalogImporter.applyChanges(
+                List.of(inserted), List.of(updated), List.of("V41002201"));
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(result.slots()).isEqualTo(3); // 새 과목 2행 + 수정 과목 1행
+        assertThat(jdbcTemplate.queryForList("SELECT course_code FROM courses ORDER BY course_code", String.class))
+                .containsExactly("M01207101", "M01207201", "Y12345601");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT course_name FROM courses WHERE course_code = 'M01207201'", String.class)).isEqualTo("알고리즘(개정)");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT CONCAT(course_code, ':', class_day, ':', period) FROM time_slots ORDER BY course_code, class_day, period",
+                String.class)).containsExactly(
+                "M01207101:Mon:1", "M01207101:Mon:2", "M01207201:Wed:1", "Y12345601:Thu:3", "Y12345601:Thu:4");
+    }
+
+    @Test
+    @DisplayName("DB 행이 같으면 시간표 순서가 달라도 같다고 보고, 과목 행이나 교시가 하나라도 다르면 다르다고 보는지 검증")
+    void hasSameRows_comparesDatabaseRows() {
+        DetailedCourseInfo current = detailed("M01207101", "자료구조", "전공",
+                new TimeSlotDto("Mon", List.of(1, 2)), new TimeSlotDto("Wed", List.of(3)));
+        DetailedCourseInfo reordered = detailed("M01207101", "자료구조", "전공",
+                new TimeSlotDto("Wed", List.of(3)), new TimeSlotDto("Mon", List.of(2, 1)));
+        DetailedCourseInfo renamed = detailed("M01207101", "자료구조(개정)", "전공",
+                new TimeSlotDto("Mon", List.of(1, 2)), new TimeSlotDto("Wed", List.of(3)));
+        DetailedCourseInfo moved = detailed("M01207101", "자료구조", "전공",
+                new TimeSlotDto("Mon", List.of(1, 2)), new TimeSlotDto("Wed", List.of(4)));
+
+        // 스냅샷에만 있는 계산 필드(과목 유형 등)는 비교하지 않는다.
+        reordered.setGeneralizedType("전공");
+
+        assertThat(courseCatalogImporter.hasSameRows(current, reordered)).isTrue();
+        assertThat(courseCatalogImporter.hasSameRows(current, renamed)).isFalse();
+        assertThat(courseCatalogImporter.hasSameRows(current, moved)).isFalse();
+    }
+
+    private DetailedCourseInfo detailed(String code, String name, String department, TimeSlotDto... slots) {
+        DetailedCourseInfo course = new DetailedCourseInfo();
+        course.setCourseCode(code);
+        course.setCourseName(name);
+        course.setDepartmentOriginal(department);
+        course.setCredits(3);
+        course.setTotalHours(3);
+        course.setGrade("2");
+        course.setProfessor("홍길동");
+        course.setScheduleSlots(List.of(slots));
+        return course;
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    static String course(String code, String name, String department, String slotsJson) {
+        return "{\"학수번호\":\"" + code + "\",\"교과목명\":\"" + name + "\",\"개설영역\":\"" + department
+                + "\",\"학점\":3,\"시간\":3,\"학년\":\"2\",\"담당교수\":\"홍길동\",\"시간표정보\":" + slotsJson + "}";
+    }
+
+    static InputStream json(String... courses) {
+        return new ByteArrayInputStream(("[" + String.join(",", courses) + "]").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.course.CourseInfo;
+import com.cesco.scheduly.entity.CourseEntity;
+import com.cesco.scheduly.entity.TimeSlotEntity;
+import com.cesco.scheduly.enums.CourseSearchMode;
+import com.cesco.scheduly.model.CourseCatalog;
+import com.cesco.scheduly.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CourseDataServiceTest {
+
+    @InjectMocks
+    private CourseDataService courseDataService;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @BeforeEach
+    void setUp() {
+        given(courseRepository.findAllWithSlots()).willReturn(List.of(
+                course("M01201101", "AI데이터융합전공", "전공_후보", "자료구조", "2", "Mon", 1, 2, 3),
+                course("M01201102", "AI데이터융합전공", "전공_후보", "자료구조", "2", "Wed", 1, 2, 3),
+                course("Y12345601", null, "교양", "영어회화", "1", "Tue", 4, 5)
+        ));
+    }
+
+    private CourseEntity course(String code, String specificMajor, String type, String name, String grade, String day, int... periods) {
+        CourseEntity entity = CourseEntity.builder()
+                .courseCode(code)
+                .courseName(name)
+                .specificMajor(specificMajor)
+                .groupId(code.substring(0, 7))
+                .generalizedType(type)
+                .credits(periods.length)
+                .totalHours(periods.length)
+                .grade(grade)
+                .build();
+        List<TimeSlotEntity> slots = new ArrayList<>();
+        for (int period : periods) {
+            slots.add(TimeSlotEntity.builder().course(entity).day(day).period(period).build());
+        }
+        entity.setScheduleSlots(slots);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("카탈로그는 한 번만 DB에서 읽고 이후 조회는 메모리 스냅샷에서 처리한다")
+    void catalog_isLoadedOnceAndServedFromMemory() {
+        courseDataService.getDetailedCourses();
+        courseDataService.getDetailedCourseByCode("M01201101");
+        List<CourseInfo> found = courseDataService.searchCourses("자료", "AI데이터융합전공", "2");
+
+        verify(courseRepository, times(1)).findAllWithSlots();
+        assertThat(found).extracting(CourseInfo::getCourseCode).containsExactly("M01201101", "M01201102");
+        assertThat(courseDataService.findCoursesByPrefix(List.of("Y"))).containsExactly("Y12345601");
+    }
+
+    @Test
+    @DisplayName("스냅샷 색인은 학수번호, groupId, 세부전공, 일반화 유형으로 조회된다")
+    void catalog_indexesCourses() {
+        CourseCatalog catalog = courseDataService.getCatalog();
+
+        assertThat(catalog.findByCode("Y12345601").getCourseName()).isEqualTo("영어회화");
+        assertThat(catalog.findByGroupId("M012011")).hasSize(2);
+        assertThat(catalog.findBySpecificMajor("AI데이터융합전공")).hasSize(2);
+        assertThat(catalog.findByGeneralizedType("교양")).extracting("courseCode").containsExactly("Y12345601");
+        assertThat(catalog.findByCode("없는코드")).isNull();
+    }
+
+    @Test
+    @DisplayName("강의 검색은 공백을 무시하고, 학수번호가 일치하는 과목을 먼저 반환한다")
+    void searchCourses_usesNgramIndexAndRanksByRelevance() {
+        assertThat(courseDataService.searchCourses("자료 구조", null, null))
+                .extracting(CourseInfo::getCourseCode).containsExactly("M01201101", "M01201102");
+        assertThat(courseDataService.searchCourses("m01201102", null, null))
+                .extracting(CourseInfo::getCourseCode).containsExactly("M01201102");
+        assertThat(courseDataService.searchCourses("구조자료", null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 검색은 초성, 입력 중인 음절, 약어로 과목명을 찾는다")
+    void searchCourses_hangulMode() {
+        assertThat(courseDataService.searchCourses("ㅈㄹㄱㅈ", null, null))
+                .extracting(CourseInfo::getCourseCode).containsExactly("M01201101", "M01201102");
+        assertThat(courseDataService.searchCourses("자룍", null, null, CourseSearchMode.HANGUL))
+                .extracting(CourseInfo::getCourseCode).containsExactly("M01201101", "M01201102");
+        assertThat(courseDataService.searchCourses("영회", null, null, CourseSearchMode.HANGUL))
+                .extracting(CourseInfo::getCourseCode).containsExactly("Y12345601");
+        assertThat(courseDataService.searchCourses("영회", null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두사 조회는 여러 접두사의 결과를 중복 없이 합치고, 일괄 조회는 접두사별로 나눠 반환한다")
+    void findCoursesByPrefix_usesPrefixTrie() {
+        assertThat(courseDataService.findCoursesByPrefix(List.of("M012011", "M01201102", "Z")))
+                .containsExactly("M01201101", "M01201102");
+        assertThat(courseDataService.findCoursesByEachPrefix(List.of("Y", "M01201102", "Z")))
+                .containsExactly(
+                        Map.entry("Y", List.of("Y12345601")),
+                        Map.entry("M01201102", List.of("M01201102")),
+                        Map.entry("Z", List.of()));
+    }
+
+    @Test
+    @DisplayName("학수번호 일괄 조회는 입력 순서를 유지하고 없는 학수번호는 건너뛴다")
+    void getDetailedCoursesByCodes_keepsOrderAndSkipsUnknown() {
+        List<String> codes = List.of("Y12345601", "없는코드", "M01201101");
+
+        assertThat(courseDataService.getDetailedCoursesByCodes(codes))
+                .extracting("courseCode").containsExactly("Y12345601", "M01201101");
+        verify(courseRepository, times(1)).findAllWithSlots();
+    }
+
+    @Test
+    @DisplayName("카탈로그가 바뀌면 새 버전의 스냅샷으로 교체되고, 이전 스냅샷은 그대로 유지된다")
+    void markCatalogChanged_swapsSnapshot() {
+        CourseCatalog before = courseDataService.getCatalog();
+
+        courseDataService.markCatalogChanged();
+        CourseCatalog after = courseDataService.getCatalog();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(courseDataService.getCatalogVersion()).isEqualTo(after.getVersion());
+        assertThat(before.size()).isEqualTo(3);
+    }
+}
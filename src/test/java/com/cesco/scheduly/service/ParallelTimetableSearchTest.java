@@ -0,0 +1,57 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.CreditRangeDto;
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.cesco.scheduly.model.ScheduleMask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.cesco.scheduly.service.TimetableFixtures.DAYS;
+import static com.cesco.scheduly.service.TimetableFixtures.randomPool;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelTimetableSearchTest {
+
+    private final ParallelTimetableSearch parallelSearch = new ParallelTimetableSearch(4, 0);
+
+    @AfterEach
+    void tearDown() {
+        parallelSearch.shutdown();
+    }
+
+    @Test
+    @DisplayName("공유 커트라인으로 가지치기를 해도 병렬 탐색의 점수 상위 K 개가 순차 탐색과 같은 순서로 반환되는지 검증")
+    void parallel_search_should_match_sequential_best() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            Map<String, List<DetailedCourseInfo>> pools = new HashMap<>();
+            pools.put("전공", randomPool("P", 20, random));
+            pools.put("교양", randomPool("G", 20, random));
+
+            Map<String, CreditRangeDto> goals = new LinkedHashMap<>();
+            goals.put("전공", new CreditRangeDto(6, 12));
+            goals.put("교양", new CreditRangeDto(3, 6));
+            List<String> types = new ArrayList<>(goals.keySet());
+            Map<String, Integer> baseCredits = new HashMap<>(Map.of("전공", 0, "교양", 0));
+            TimetableScorer scorer = new TimetableScorer(
+                    ScheduleMask.of(List.of(new TimeSlotDto(DAYS.get(random.nextInt(DAYS.size())), List.of(3, 4, 5, 6)))), 18);
+
+            int limit = 1 + random.nextInt(8);
+            List<TimetableSearchEngine.ScoredTimetable> sequential = new TimetableSearchEngine(
+                    List.of(), pools, types, goals, baseCredits, 12, 18)
+                    .searchBest(limit, scorer, SearchBudget.unlimited());
+            List<TimetableSearchEngine.ScoredTimetable> parallel = parallelSearch.searchBest(new TimetableSearchEngine(
+                    List.of(), pools, types, goals, baseCredits, 12, 18), limit, scorer, SearchBudget.unlimited());
+
+            assertThat(sequential).isNotEmpty();
+            assertThat(parallel.stream().map(TimetableSearchEngine.ScoredTimetable::courses).toList())
+                    .isEqualTo(sequential.stream().map(TimetableSearchEngine.ScoredTimetable::courses).toList());
+            assertThat(parallel.stream().map(TimetableSearchEngine.ScoredTimetable::score).toList())
+                    .isEqualTo(sequential.stream().map(TimetableSearchEngine.ScoredTimetable::score).toList());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.course.PastCourseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PastCourseServiceTest {
+
+    private final PastCourseService pastCourseService = new PastCourseService();
+
+    private static PastCourseDto course(String code, String name) {
+        PastCourseDto course = new PastCourseDto();
+        course.setCourseCode(code);
+        course.setDepartment("전공");
+        course.setCourseName(name);
+        course.setProfessor("김교수");
+        return course;
+    }
+
+    @BeforeEach
+    void setUp() {
+        List<PastCourseDto> courses = new ArrayList<>(List.of(
+                course("A01121701", "영어학개론(1)"),
+                course("A01121702", "영어학개론(2)"),
+                course("Q02009102", "경제학개론"),
+                course("D01205A01", "개론연습"),
+                course("V41002201", "컴퓨터수학")
+        ));
+        for (int i = 0; i < 30; i++) {
+            courses.add(course(String.format("M%08d", i), "자료구조" + i));
+        }
+        pastCourseService.replaceCourses(courses);
+    }
+
+    @Test
+    @DisplayName("학수번호가 정확히 같은 과목이 접두/부분 일치 과목보다 먼저 나온다")
+    void exactCode_ranksFirst() {
+        List<PastCourseDto> results = pastCourseService.search("a01121701");
+
+        assertThat(results).isNotEmpty();
+        assertThat(results.get(0).getCourseCode()).isEqualTo("A01121701");
+        assertThat(results).extracting(PastCourseDto::getCourseCode).doesNotContain("A01121702");
+    }
+
+    @Test
+    @DisplayName("과목명 일부로 검색하면 접두 일치 > 짧은 과목명 > 긴 과목명 순으로 나온다")
+    void partialName_ranksPrefixThenShorterNames() {
+        List<PastCourseDto> results = pastCourseService.search("개론");
+
+        assertThat(results).extracting(PastCourseDto::getCourseName)
+                .containsExactly("개론연습", "경제학개론", "영어학개론(1)", "영어학개론(2)");
+    }
+
+    @Test
+    @DisplayName("일치하는 과목이 없거나 검색어가 너무 짧으면 빈 목록을 반환한다")
+    void missOrShortQuery_returnsEmpty() {
+        assertThat(pastCourseService.search("없는과목")).isEmpty();
+        assertThat(pastCourseService.search("개")).isEmpty();
+        assertThat(pastCourseService.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일치하는 과목이 많아도 최대 20개까지만 반환한다")
+    void manyMatches_cappedAt20() {
+        List<PastCourseDto> results = pastCourseService.search("자료구조");
+
+        assertThat(results).hasSize(20);
+        assertThat(results).allMatch(course -> course.getCourseName().startsWith("자료구조"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.course.PastCourseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PastCourseSnapshotTest {
+
+    private static final PastCourseSnapshot.Source SOURCE = new PastCourseSnapshot.Source(435_000L, 1_700_000_000_000L);
+
+    @TempDir
+    Path tempDir;
+
+    private static PastCourseDto course(String code, String department, String name, String professor) {
+        PastCourseDto course = new PastCourseDto();
+        course.setCourseCode(code);
+        course.setDepartment(department);
+        course.setCourseName(name);
+        course.setProfessor(professor);
+        return course;
+    }
+
+    @Test
+    @DisplayName("스냅샷을 쓰고 읽으면 같은 목록이 나오고, 반복되는 문자열은 같은 인스턴스를 공유한다")
+    void writeThenRead_roundTrips() throws Exception {
+        List<PastCourseDto> courses = List.of(
+                course("A01121701", "전공", "영어학개론(1)", "김유강"),
+                course("A01122701", "전공", "영어학개론(2)", "김유강"),
+                course("Y13115302", "교양", "대학중국어1", null)
+        );
+        Path file = tempDir.resolve("courses_past.snapshot");
+
+        PastCourseSnapshot.write(file, courses, SOURCE);
+        List<PastCourseDto> loaded = PastCourseSnapshot.read(file, SOURCE);
+
+        assertThat(loaded).isEqualTo(courses);
+        assertThat(loaded.get(0).getProfessor()).isSameAs(loaded.get(1).getProfessor());
+    }
+
+    @Test
+    @DisplayName("원본 크기나 수정 시각이 다르거나 파일이 손상되었으면 스냅샷을 읽지 않는다")
+    void read_returnsNullWhenStaleOrCorrupt() throws Exception {
+        Path file = tempDir.resolve("courses_past.snapshot");
+        PastCourseSnapshot.write(file, List.of(course("A01121701", "전공", "영어학개론(1)", "김유강")), SOURCE);
+
+        assertThat(PastCourseSnapshot.read(file, new PastCourseSnapshot.Source(SOURCE.size() + 1, SOURCE.lastModified()))).isNull();
+        assertThat(PastCourseSnapshot.read(file, new PastCourseSnapshot.Source(SOURCE.size(), SOURCE.lastModified() + 1))).isNull();
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+        assertThat(PastCourseSnapshot.read(file, SOURCE)).isNull();
+        assertThat(PastCourseSnapshot.read(tempDir.resolve("missing.snapshot"), SOURCE)).isNull();
+    }
+}
@@ -0,0 +1,104 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.RecommendedTimetableResponse;
+import com.cesco.scheduly.enums.RecommendationJobStatus;
+import com.cesco.scheduly.exception.ResourceNotFoundException;
+import com.cesco.scheduly.model.RecommendationJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationJobServiceTest {
+
+    @Mock
+    private TimetableService timetableService;
+
+    private final List<Runnable> queuedTasks = new ArrayList<>(); // 실행기에 들어간 작업 (테스트에서 직접 실행)
+    private RecommendationJobService recommendationJobService;
+
+    @BeforeEach
+    void setUp() {
+        recommendationJobService = new RecommendationJobService(
+                timetableService, new InMemoryRecommendationJobStore(10), queuedTasks::add);
+    }
+
+    @Test
+    @DisplayName("대기 중에 취소한 작업은 실행되지 않고 CANCELLED 가 되는지 검증")
+    void cancelled_queued_job_should_not_run() {
+        RecommendationJob job = recommendationJobService.submit(1L);
+
+        RecommendationJob cancelled = recommendationJobService.cancel(1L, job.getJobId());
+        queuedTasks.forEach(Runnable::run);
+
+        assertThat(cancelled.getStatus()).isEqualTo(RecommendationJobStatus.CANCELLED);
+        assertThat(recommendationJobService.getJob(1L, job.getJobId()).getStatus()).isEqualTo(RecommendationJobStatus.CANCELLED);
+        verify(timetableService, never()).recommendTimetables(any(), any(), any());
+        // 취소된 작업은 끝난 작업이므로 새 작업을 등록할 수 있다.
+        assertThat(recommendationJobService.submit(1L).getJobId()).isNotEqualTo(job.getJobId());
+    }
+
+    @Test
+    @DisplayName("탐색 중에 취소하면 중단 조건이 true 가 되고, 일부 결과는 버려진 채 CANCELLED 가 되는지 검증")
+    void cancelling_running_job_should_stop_search() {
+        RecommendationJob job = recommendationJobService.submit(1L);
+        List<Boolean> stopConditionAfterCancel = new ArrayList<>();
+        given(timetableService.recommendTimetables(eq(1L), isNull(), any())).willAnswer(invocation -> {
+            BooleanSupplier cancelled = invocation.getArgument(2);
+            assertThat(cancelled.getAsBoolean()).isFalse();
+            assertThat(recommendationJobService.getJob(1L, job.getJobId()).getStatus()).isEqualTo(RecommendationJobStatus.RUNNING);
+
+            recommendationJobService.cancel(1L, job.getJobId()); // 탐색 도중 사용자가 취소
+            stopConditionAfterCancel.add(cancelled.getAsBoolean());
+            return new RecommendedTimetableResponse(List.of(), "중단된 결과", true);
+        });
+
+        queuedTasks.forEach(Runnable::run);
+
+        RecommendationJob finished = recommendationJobService.getJob(1L, job.getJobId());
+        assertThat(stopConditionAfterCancel).containsExactly(true);
+        assertThat(finished.getStatus()).isEqualTo(RecommendationJobStatus.CANCELLED);
+        assertThat(finished.getResult()).isNull();
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미 끝난 작업은 취소해도 상태와 결과가 그대로인지 검증")
+    void cancelling_finished_job_should_keep_result() {
+        RecommendedTimetableResponse response = new RecommendedTimetableResponse(List.of(), "완료");
+        given(timetableService.recommendTimetables(eq(1L), isNull(), any())).willReturn(response);
+        RecommendationJob job = recommendationJobService.submit(1L);
+        queuedTasks.forEach(Runnable::run);
+
+        RecommendationJob afterCancel = recommendationJobService.cancel(1L, job.getJobId());
+
+        assertThat(afterCancel.getStatus()).isEqualTo(RecommendationJobStatus.COMPLETED);
+        assertThat(afterCancel.getResult()).isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 취소할 수 없는지 검증")
+    void other_user_should_not_cancel_job() {
+        RecommendationJob job = recommendationJobService.submit(1L);
+
+        assertThatThrownBy(() -> recommendationJobService.cancel(2L, job.getJobId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(recommendationJobService.getJob(1L, job.getJobId()).getStatus()).isEqualTo(RecommendationJobStatus.QUEUED);
+    }
+}
@@ -0,0 +1,77 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.CreditRangeDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.cesco.scheduly.service.TimetableFixtures.course;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SectionEquivalenceTest {
+
+    @Test
+    @DisplayName("같은 그룹, 학점, 수업 시간의 분반은 첫 분반 하나로 합쳐지고 나머지는 대체 분반이 되는지 검증")
+    void equivalent_sections_should_collapse_into_first_one() {
+        DetailedCourseInfo first = course("A01", "A", 3, "Mon", 3, 4, 5);
+        DetailedCourseInfo sameTime = course("A02", "A", 3, "Mon", 3, 4, 5);
+        DetailedCourseInfo otherTime = course("A03", "A", 3, "Tue", 3, 4, 5);
+        DetailedCourseInfo otherGroup = course("B01", "B", 3, "Mon", 3, 4, 5);
+        DetailedCourseInfo sameTimeAgain = course("A04", "A", 3, "Mon", 3, 4, 5);
+
+        Map<String, List<DetailedCourseInfo>> pools = new LinkedHashMap<>();
+        pools.put("전공", List.of(first, sameTime, otherTime, otherGroup, sameTimeAgain));
+        pools.put("교양", List.of(course("A05", "A", 3, "Mon", 3, 4, 5)));
+
+        SectionEquivalence sections = SectionEquivalence.collapse(pools);
+
+        assertThat(sections.getPools().get("전공")).containsExactly(first, otherTime, otherGroup);
+        assertThat(sections.alternativesOf(first)).containsExactly(sameTime, sameTimeAgain);
+        assertThat(sections.alternativesOf(otherTime)).isEmpty();
+        assertThat(sections.getPools().get("교양")).hasSize(1); // 다른 유형의 분반과는 합치지 않는다.
+        assertThat(sections.getCollapsedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("분반을 합친 뒤에도 만들 수 있는 시간표 점수와 최고 점수가 같은지 검증")
+    void collapsing_should_keep_reachable_scores() {
+        Map<String, List<DetailedCourseInfo>> pools = new LinkedHashMap<>();
+        pools.put("전공", List.of(
+                course("P01", "P1", 3, "Mon", 3, 4, 5),
+                course("P02", "P1", 3, "Mon", 3, 4, 5),
+                course("P03", "P2", 3, "Tue", 3, 4, 5),
+                course("P04", "P2", 3, "Tue", 3, 4, 5),
+                course("P05", "P3", 3, "Mon", 6, 7, 8),
+                course("P06", "P3", 3, "Wed", 3, 4, 5)));
+        pools.put("교양", List.of(
+                course("G01", "G1", 2, "Thu", 3, 4),
+                course("G02", "G1", 2, "Thu", 3, 4),
+                course("G03", "G2", 2, "Mon", 6, 7)));
+        Map<String, CreditRangeDto> goals = new LinkedHashMap<>();
+        goals.put("전공", new CreditRangeDto(3, 9));
+        goals.put("교양", new CreditRangeDto(0, 4));
+        TimetableScorer scorer = new TimetableScorer(null, 12);
+
+        List<TimetableSearchEngine.ScoredTimetable> original = search(pools, goals, scorer);
+        List<TimetableSearchEngine.ScoredTimetable> collapsed = search(SectionEquivalence.collapse(pools).getPools(), goals, scorer);
+
+        assertThat(collapsed.size()).isLessThan(original.size());
+        assertThat(scores(collapsed)).isEqualTo(scores(original));
+        assertThat(collapsed.get(0).score()).isEqualTo(original.get(0).score());
+    }
+
+    private List<TimetableSearchEngine.ScoredTimetable> search(Map<String, List<DetailedCourseInfo>> pools,
+                                                               Map<String, CreditRangeDto> goals, TimetableScorer scorer) {
+        Map<String, Integer> baseCredits = new HashMap<>(Map.of("전공", 0, "교양", 0));
+        return new TimetableSearchEngine(List.of(), pools, new ArrayList<>(goals.keySet()), goals, baseCredits, 6, 12)
+                .searchBest(1_000, scorer, SearchBudget.unlimited());
+    }
+
+    private Set<Double> scores(List<TimetableSearchEngine.ScoredTimetable> timetables) {
+        Set<Double> scores = new HashSet<>();
+        timetables.forEach(timetable -> scores.add(timetable.score()));
+        return scores;
+    }
+}
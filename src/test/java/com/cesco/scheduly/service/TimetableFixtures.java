@@ -0,0 +1,42 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 시간표 탐색 테스트들이 함께 쓰는 과목/풀 생성 헬퍼
+final class TimetableFixtures {
+
+    static final List<String> DAYS = List.of("Mon", "Tue", "Wed", "Thu", "Fri");
+
+    private TimetableFixtures() {
+    }
+
+    static DetailedCourseInfo course(String code, String groupId, int credits, String day, Integer... periods) {
+        DetailedCourseInfo course = new DetailedCourseInfo();
+        course.setCourseCode(code);
+        course.setGroupId(groupId);
+        course.setCredits(credits);
+        course.setScheduleSlots(List.of(new TimeSlotDto(day, List.of(periods))));
+        return course;
+    }
+
+    // 1~3학점 과목이 학점 수만큼 연속 교시를 차지하는 임의 풀. 같은 풀 안에서 그룹이 겹칠 수 있다.
+    static List<DetailedCourseInfo> randomPool(String prefix, int size, Random random) {
+        List<DetailedCourseInfo> pool = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int credits = 1 + random.nextInt(3);
+            int start = 1 + random.nextInt(9);
+            Integer[] periods = new Integer[credits];
+            for (int p = 0; p < credits; p++) {
+                periods[p] = start + p;
+            }
+            pool.add(course(String.format("%s%02d", prefix, i), prefix + random.nextInt(size), credits,
+                    DAYS.get(random.nextInt(DAYS.size())), periods));
+        }
+        return pool;
+    }
+}
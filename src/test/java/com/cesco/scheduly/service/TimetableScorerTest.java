@@ -0,0 +1,72 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import com.cesco.scheduly.model.ScheduleMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimetableScorerTest {
+
+    @Test
+    @DisplayName("선호 시간대 안의 수업이 선호 시간대 밖의 수업보다 높은 점수를 받는지 검증")
+    void preferred_slots_should_score_higher() {
+        TimetableScorer scorer = new TimetableScorer(mask(new TimeSlotDto("Tue", List.of(5, 6, 7))), 18);
+
+        double inside = score(scorer, 3, new TimeSlotDto("Tue", List.of(5, 6, 7)));
+        double outside = score(scorer, 3, new TimeSlotDto("Wed", List.of(5, 6, 7)));
+
+        assertThat(inside).isGreaterThan(outside);
+    }
+
+    @Test
+    @DisplayName("같은 교시 수라면 공강일이 많고 우주공강이 없는 시간표가 높은 점수를 받는지 검증")
+    void free_days_and_compact_days_should_score_higher() {
+        TimetableScorer scorer = new TimetableScorer(null, 18);
+
+        double oneDay = score(scorer, 6, new TimeSlotDto("Mon", List.of(3, 4, 5)), new TimeSlotDto("Mon", List.of(6, 7, 8)));
+        double twoDays = score(scorer, 6, new TimeSlotDto("Mon", List.of(3, 4, 5)), new TimeSlotDto("Tue", List.of(3, 4, 5)));
+        double withGap = score(scorer, 6, new TimeSlotDto("Mon", List.of(3, 4, 5)), new TimeSlotDto("Mon", List.of(8, 9)),
+                new TimeSlotDto("Mon", List.of(6)));
+        double spread = score(scorer, 6, new TimeSlotDto("Mon", List.of(3, 4, 5)), new TimeSlotDto("Mon", List.of(9, 10, 11)));
+
+        assertThat(oneDay).isGreaterThan(twoDays);
+        assertThat(withGap).isEqualTo(oneDay - 2.0); // 7교시 한 칸 공강
+        assertThat(spread).isLessThan(oneDay);
+    }
+
+    @Test
+    @DisplayName("최대 학점 목표에 가까울수록 높은 점수를 받는지 검증")
+    void credits_closer_to_goal_should_score_higher() {
+        TimetableScorer scorer = new TimetableScorer(null, 18);
+        TimeSlotDto slot = new TimeSlotDto("Mon", List.of(3, 4, 5));
+
+        assertThat(score(scorer, 18, slot)).isGreaterThan(score(scorer, 12, slot));
+        assertThat(score(scorer, 21, slot)).isEqualTo(score(scorer, 18, slot));
+    }
+
+    @Test
+    @DisplayName("최대 학점을 채운 시간표가 공강일을 하나 잃더라도, 나머지가 같은 더 적은 학점의 시간표보다 앞서는지 검증")
+    void max_credits_should_outrank_fewer_credits() {
+        TimetableScorer scorer = new TimetableScorer(null, 18);
+        TimeSlotDto monday = new TimeSlotDto("Mon", List.of(3, 4, 5));
+
+        double full = score(scorer, 18, monday, new TimeSlotDto("Tue", List.of(3, 4, 5)));
+        double fewer = score(scorer, 15, monday);
+
+        assertThat(full).isGreaterThan(fewer);
+        assertThat(score(scorer, 18, monday)).isGreaterThan(score(scorer, 17, monday));
+    }
+
+    private double score(TimetableScorer scorer, int totalCredits, TimeSlotDto... slots) {
+        ScheduleMask mask = mask(slots);
+        return scorer.score(mask.getLow(), mask.getHigh(), totalCredits);
+    }
+
+    private ScheduleMask mask(TimeSlotDto... slots) {
+        return ScheduleMask.of(List.of(slots));
+    }
+}
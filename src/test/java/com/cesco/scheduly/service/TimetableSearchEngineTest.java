@@ -0,0 +1,173 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.CreditRangeDto;
+import com.cesco.scheduly.dto.timetable.TimeSlotDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.cesco.scheduly.model.ScheduleMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static com.cesco.scheduly.service.TimetableFixtures.DAYS;
+import static com.cesco.scheduly.service.TimetableFixtures.randomPool;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimetableSearchEngineTest {
+
+    private static final int ALL = 100_000; // 작은 풀에서 가능한 조합을 모두 받을 수 있는 크기
+
+    @Test
+    @DisplayName("가지치기를 해도 전수 조사와 같은 시간표 조합을 모두 찾는지 검증")
+    void pruned_search_should_find_every_valid_combination() {
+        Random random = new Random(11);
+        for (int round = 0; round < 30; round++) {
+            Map<String, List<DetailedCourseInfo>> pools = new HashMap<>();
+            pools.put("전공", randomPool("P", 8, random));
+            pools.put("교양", randomPool("G", 8, random));
+            Map<String, CreditRangeDto> goals = goals(3 + random.nextInt(4), 9, 2 + random.nextInt(2), 6);
+            int minTotal = 6 + random.nextInt(6);
+            int maxTotal = minTotal + random.nextInt(6);
+
+            Set<List<String>> found = new HashSet<>();
+            for (TimetableSearchEngine.ScoredTimetable timetable : newEngine(pools, goals, minTotal, maxTotal)
+                    .searchBest(ALL, new TimetableScorer(null, maxTotal), SearchBudget.unlimited())) {
+                assertThat(found.add(codes(timetable.courses()))).isTrue();
+            }
+
+            Set<List<String>> expected = new HashSet<>();
+            for (List<DetailedCourseInfo> timetable : bruteForce(pools, goals, minTotal, maxTotal)) {
+                expected.add(codes(timetable));
+            }
+            assertThat(found).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("점수 상위 K 개가 전체 조합 중 가장 높은 점수들을 내림차순으로 담는지 검증 (점수 상한 가지치기 포함)")
+    void searchBest_should_return_highest_scores_in_descending_order() {
+        Random random = new Random(23);
+        for (int round = 0; round < 30; round++) {
+            Map<String, List<DetailedCourseInfo>> pools = new HashMap<>();
+            pools.put("전공", randomPool("P", 8, random));
+            pools.put("교양", randomPool("G", 8, random));
+            Map<String, CreditRangeDto> goals = goals(3, 9, 2, 6);
+            TimetableScorer scorer = new TimetableScorer(
+                    ScheduleMask.of(List.of(new TimeSlotDto(DAYS.get(random.nextInt(DAYS.size())), List.of(3, 4, 5, 6)))), 15);
+            int limit = 1 + random.nextInt(10);
+
+            List<Double> expected = new ArrayList<>();
+            for (List<DetailedCourseInfo> timetable : bruteForce(pools, goals, 6, 15)) {
+                expected.add(score(scorer, timetable));
+            }
+            expected.sort(Comparator.reverseOrder());
+
+            List<TimetableSearchEngine.ScoredTimetable> best = newEngine(pools, goals, 6, 15)
+                    .searchBest(limit, scorer, SearchBudget.unlimited());
+
+            assertThat(best.stream().map(TimetableSearchEngine.ScoredTimetable::score).toList())
+                    .isEqualTo(expected.subList(0, Math.min(limit, expected.size())));
+            for (TimetableSearchEngine.ScoredTimetable timetable : best) {
+                assertThat(timetable.score()).isEqualTo(score(scorer, timetable.courses()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("점수 상한은 그 아래에서 만들 수 있는 어떤 시간표의 점수보다도 작지 않은지 검증")
+    void upperBound_should_not_underestimate_completed_timetables() {
+        Random random = new Random(31);
+        for (int round = 0; round < 30; round++) {
+            List<DetailedCourseInfo> pool = randomPool("P", 8, random);
+            TimetableScorer scorer = new TimetableScorer(
+                    ScheduleMask.of(List.of(new TimeSlotDto(DAYS.get(random.nextInt(DAYS.size())), List.of(3, 4, 5, 6)))), 12);
+            List<DetailedCourseInfo> partial = List.of(pool.get(0));
+            ScheduleMask partialMask = pool.get(0).getScheduleMask();
+
+            for (List<DetailedCourseInfo> timetable : bruteForce(Map.of("전공", pool, "교양", List.of()), goals(0, 12, 0, 0), 0, 12)) {
+                if (!timetable.containsAll(partial)) continue;
+                int credits = timetable.stream().mapToInt(DetailedCourseInfo::getCredits).sum();
+                assertThat(scorer.upperBound(partialMask.getLow(), partialMask.getHigh(), credits))
+                        .isGreaterThanOrEqualTo(score(scorer, timetable));
+            }
+        }
+    }
+
+    private TimetableSearchEngine newEngine(Map<String, List<DetailedCourseInfo>> pools,
+                                            Map<String, CreditRangeDto> goals, int minTotal, int maxTotal) {
+        Map<String, Integer> baseCredits = new HashMap<>(Map.of("전공", 0, "교양", 0));
+        return new TimetableSearchEngine(List.of(), pools, new ArrayList<>(goals.keySet()), goals, baseCredits, minTotal, maxTotal);
+    }
+
+    private Map<String, CreditRangeDto> goals(int majorMin, int majorMax, int generalMin, int generalMax) {
+        Map<String, CreditRangeDto> goals = new LinkedHashMap<>();
+        goals.put("전공", new CreditRangeDto(majorMin, majorMax));
+        goals.put("교양", new CreditRangeDto(generalMin, generalMax));
+        return goals;
+    }
+
+    // 유형별 부분집합을 모두 만들어 조건(유형/전체 학점, 시간 충돌, 같은 그룹 중복)을 직접 확인한 결과
+    private List<List<DetailedCourseInfo>> bruteForce(Map<String, List<DetailedCourseInfo>> pools,
+                                                      Map<String, CreditRangeDto> goals, int minTotal, int maxTotal) {
+        List<List<List<DetailedCourseInfo>>> subsetsByType = new ArrayList<>();
+        for (Map.Entry<String, CreditRangeDto> goal : goals.entrySet()) {
+            List<DetailedCourseInfo> pool = pools.get(goal.getKey());
+            List<List<DetailedCourseInfo>> subsets = new ArrayList<>();
+            for (int bits = 0; bits < (1 << pool.size()); bits++) {
+                List<DetailedCourseInfo> subset = new ArrayList<>();
+                for (int i = 0; i < pool.size(); i++) {
+                    if ((bits & (1 << i)) != 0) subset.add(pool.get(i));
+                }
+                int credits = subset.stream().mapToInt(DetailedCourseInfo::getCredits).sum();
+                if (credits >= goal.getValue().getMin() && credits <= goal.getValue().getMax()) {
+                    subsets.add(subset);
+                }
+            }
+            subsetsByType.add(subsets);
+        }
+
+        List<List<DetailedCourseInfo>> valid = new ArrayList<>();
+        for (List<DetailedCourseInfo> major : subsetsByType.get(0)) {
+            for (List<DetailedCourseInfo> general : subsetsByType.get(1)) {
+                List<DetailedCourseInfo> timetable = new ArrayList<>(major);
+                timetable.addAll(general);
+                if (isValid(timetable, minTotal, maxTotal)) {
+                    valid.add(timetable);
+                }
+            }
+        }
+        return valid;
+    }
+
+    private boolean isValid(List<DetailedCourseInfo> timetable, int minTotal, int maxTotal) {
+        int total = 0;
+        long low = 0L;
+        long high = 0L;
+        Set<String> groups = new HashSet<>();
+        for (DetailedCourseInfo course : timetable) {
+            ScheduleMask mask = course.getScheduleMask();
+            if ((low & mask.getLow()) != 0L || (high & mask.getHigh()) != 0L) return false;
+            if (!groups.add(course.getGroupId())) return false;
+            low |= mask.getLow();
+            high |= mask.getHigh();
+            total += course.getCredits();
+        }
+        return total >= minTotal && total <= maxTotal;
+    }
+
+    private double score(TimetableScorer scorer, List<DetailedCourseInfo> timetable) {
+        long low = 0L;
+        long high = 0L;
+        int total = 0;
+        for (DetailedCourseInfo course : timetable) {
+            low |= course.getScheduleMask().getLow();
+            high |= course.getScheduleMask().getHigh();
+            total += course.getCredits();
+        }
+        return scorer.score(low, high, total);
+    }
+
+    private List<String> codes(List<DetailedCourseInfo> timetable) {
+        return timetable.stream().map(DetailedCourseInfo::getCourseCode).toList();
+    }
+}
@@ -7,7 +7,9 @@ import com.cesco.scheduly.entity.UserPreferenceEntity;
 import com.cesco.scheduly.enums.College;
 import com.cesco.scheduly.enums.DoubleMajorType;
 import com.cesco.scheduly.exception.MandatoryCourseConflictException;
+import com.cesco.scheduly.model.CourseCatalog;
 import com.cesco.scheduly.model.DetailedCourseInfo;
+import com.cesco.scheduly.model.UserPlanningContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,7 +22,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -71,21 +73,16 @@ class TimetableServiceTest {
     void should_always_include_mandatory_and_retake_courses() {
         // given: 필수 과목과 재수강 과목만 설정
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setMandatoryCourses(List.of("M01201101")); // 통계모델링(필수)
-        selections.setRetakeCourses(List.of("M01301101")); // 비정형데이터마이닝(재수강)
+        selections.setMandatoryCourses(new LinkedHashSet<>(List.of("M01201101"))); // 통계모델링(필수)
+        selections.setRetakeCourses(new LinkedHashSet<>(List.of("M01301101"))); // 비정형데이터마이닝(재수강)
 
         UserPreferenceEntity preferences = createDefaultPreferences(); // 기본 학점/시간 설정
 
         // Mock 설정
-        given(userService.getUserDetails(testUserId)).willReturn(testUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(testUser, selections, preferences);
 
         List<DetailedCourseInfo> mockCourseList = createSimpleCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(mockCourseList);
-        mockCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(mockCourseList);
 
         // when
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
@@ -105,17 +102,12 @@ class TimetableServiceTest {
     void should_throw_exception_when_mandatory_courses_conflict() {
         // given
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setMandatoryCourses(List.of("M01201101", "CONFLICT01"));
+        selections.setMandatoryCourses(new LinkedHashSet<>(List.of("M01201101", "CONFLICT01")));
 
-        given(userService.getUserDetails(testUserId)).willReturn(testUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(createDefaultPreferences());
+        stubPlanningContext(testUser, selections, createDefaultPreferences());
 
         List<DetailedCourseInfo> mockCourseList = createSimpleCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(mockCourseList);
-        mockCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(mockCourseList);
 
         // when & then
         assertThrows(MandatoryCourseConflictException.class, () -> {
@@ -128,21 +120,16 @@ class TimetableServiceTest {
     void should_exclude_taken_courses_from_recommendation() {
         // given
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setTakenCourses(new ArrayList<>(List.of("V41010101")));
-        selections.setRetakeCourses(List.of("M01301101"));
+        selections.setTakenCourses(new LinkedHashSet<>(List.of("V41010101")));
+        selections.setRetakeCourses(new LinkedHashSet<>(List.of("M01301101")));
         selections.getTakenCourses().add("V41010102");
 
         UserPreferenceEntity preferences = createDefaultPreferences();
 
-        given(userService.getUserDetails(testUserId)).willReturn(testUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(testUser, selections, preferences);
 
         List<DetailedCourseInfo> mockCourseList = createSimpleCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(mockCourseList);
-        mockCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(mockCourseList);
 
         // when
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
@@ -166,14 +153,12 @@ class TimetableServiceTest {
         UserPreferenceEntity preferences = createDefaultPreferences();
         preferences.getCreditSettings().setCreditGoalsPerType(Map.of("교양", new CreditRangeDto(3, 3)));
 
-        given(userService.getUserDetails(testUserId)).willReturn(testUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(testUser, selections, preferences);
 
         List<DetailedCourseInfo> courseList = List.of(
                 createCourse("Y13115302", "대학중국어1", null, "교양", "교양", 3, new TimeSlotDto("Mon", List.of(1, 2)))
         );
-        given(courseDataService.getDetailedCourses()).willReturn(courseList);
+        stubCatalog(courseList);
 
         // when
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
@@ -192,14 +177,12 @@ class TimetableServiceTest {
         UserPreferenceEntity preferences = createDefaultPreferences();
         preferences.getCreditSettings().setCreditGoalsPerType(Map.of("자선", new CreditRangeDto(3, 3)));
 
-        given(userService.getUserDetails(testUserId)).willReturn(testUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(testUser, selections, preferences);
 
         List<DetailedCourseInfo> courseList = List.of(
                 createCourse("F05301201", "프로그래밍언어론", "컴퓨터공학전공", "전공", "전공_후보", 3, new TimeSlotDto("Tue", List.of(1, 2)))
         );
-        given(courseDataService.getDetailedCourses()).willReturn(courseList);
+        stubCatalog(courseList);
 
         // when
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
@@ -215,9 +198,9 @@ class TimetableServiceTest {
     void should_generate_valid_timetable_with_all_constraints() {
         // given
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setTakenCourses(List.of("V41002201"));
-        selections.setMandatoryCourses(List.of("M01201101"));
-        selections.setRetakeCourses(List.of("M01301101"));
+        selections.setTakenCourses(new LinkedHashSet<>(List.of("V41002201")));
+        selections.setMandatoryCourses(new LinkedHashSet<>(List.of("M01201101")));
+        selections.setRetakeCourses(new LinkedHashSet<>(List.of("M01301101")));
 
         TimePreferenceRequest timePrefs = new TimePreferenceRequest();
         timePrefs.setPreferredTimeSlots(List.of(
@@ -240,15 +223,10 @@ class TimetableServiceTest {
         preferences.setTimePreferences(timePrefs);
         preferences.setCreditSettings(creditSettings);
 
-        given(userService.getUserDetails(testUserId)).willReturn(testUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(testUser, selections, preferences);
 
         List<DetailedCourseInfo> mockCourseList = createFullMockCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(mockCourseList);
-        mockCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(mockCourseList);
 
         // when
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
@@ -286,9 +264,9 @@ class TimetableServiceTest {
     @DisplayName("8. [실 데이터] 금공강/오전수업X/빡빡한 학점&필수과목 조건에서 3개 이상 시간표 추천 검증")
     void should_recommend_at_least_3_timetables_with_real_data_under_extreme_conditions() {
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setTakenCourses(List.of("V41002201", "D01205A01", "V41010101", "M01201101"));
-        selections.setMandatoryCourses(List.of("M01207101", "P05406201"));
-        selections.setRetakeCourses(List.of("M01301101"));
+        selections.setTakenCourses(new LinkedHashSet<>(List.of("V41002201", "D01205A01", "V41010101", "M01201101")));
+        selections.setMandatoryCourses(new LinkedHashSet<>(List.of("M01207101", "P05406201")));
+        selections.setRetakeCourses(new LinkedHashSet<>(List.of("M01301101")));
         TimePreferenceRequest timePrefs = new TimePreferenceRequest();
         timePrefs.setPreferredTimeSlots(List.of(
                 new TimeSlotDto("Mon", List.of(2, 3, 4, 5, 6, 7, 8, 9)),
@@ -307,14 +285,9 @@ class TimetableServiceTest {
         UserPreferenceEntity preferences = new UserPreferenceEntity();
         preferences.setTimePreferences(timePrefs);
         preferences.setCreditSettings(creditSettings);
-        given(userService.getUserDetails(testUserId)).willReturn(testUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(testUser, selections, preferences);
         List<DetailedCourseInfo> realisticCourseList = createRealisticExtremeCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(realisticCourseList);
-        realisticCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(realisticCourseList);
 
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
 
@@ -335,7 +308,7 @@ class TimetableServiceTest {
                 .major("스페인어통번역학과").doubleMajorType(DoubleMajorType.DOUBLE_MAJOR)
                 .doubleMajor("AI융합전공(Software&AI)").college(College.통번역대학).build();
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setMandatoryCourses(List.of("A05303203", "V41008201"));
+        selections.setMandatoryCourses(new LinkedHashSet<>(List.of("A05303203", "V41008201")));
         TimePreferenceRequest timePrefs = new TimePreferenceRequest();
         timePrefs.setPreferredTimeSlots(List.of(
                 new TimeSlotDto("Mon", List.of(4,5,6,7,8,9)), new TimeSlotDto("Tue", List.of(4,5,6,7,8,9)),
@@ -348,14 +321,9 @@ class TimetableServiceTest {
         UserPreferenceEntity preferences = new UserPreferenceEntity();
         preferences.setTimePreferences(timePrefs);
         preferences.setCreditSettings(creditSettings);
-        given(userService.getUserDetails(testUserId)).willReturn(spanishUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(spanishUser, selections, preferences);
         List<DetailedCourseInfo> realisticCourseList = createRealisticExtremeCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(realisticCourseList);
-        realisticCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(realisticCourseList);
 
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
 
@@ -376,7 +344,7 @@ class TimetableServiceTest {
                 .major("러시아학과").doubleMajorType(DoubleMajorType.DOUBLE_MAJOR)
                 .doubleMajor("AI융합전공(Software&AI)").college(College.국제지역대학).build();
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setMandatoryCourses(List.of("A04223201", "A04359201"));
+        selections.setMandatoryCourses(new LinkedHashSet<>(List.of("A04223201", "A04359201")));
         TimePreferenceRequest timePrefs = new TimePreferenceRequest();
         timePrefs.setPreferredTimeSlots(List.of(
                 new TimeSlotDto("Mon", List.of(1,2,3,4,5,6,7, 8,9)), new TimeSlotDto("Tue", List.of(1,2,3,4,5,6,7,8,9)),
@@ -389,14 +357,9 @@ class TimetableServiceTest {
         UserPreferenceEntity preferences = new UserPreferenceEntity();
         preferences.setTimePreferences(timePrefs);
         preferences.setCreditSettings(creditSettings);
-        given(userService.getUserDetails(testUserId)).willReturn(russianUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(russianUser, selections, preferences);
         List<DetailedCourseInfo> realisticCourseList = createRealisticExtremeCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(realisticCourseList);
-        realisticCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(realisticCourseList);
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
         assertThat(recommendations).isNotEmpty();
 
@@ -417,7 +380,7 @@ class TimetableServiceTest {
                 .major("컴퓨터공학전공").doubleMajorType(DoubleMajorType.MINOR)
                 .doubleMajor("Global Business & Technology전공").college(College.공과대학).build();
         UserCourseSelectionEntity selections = new UserCourseSelectionEntity();
-        selections.setMandatoryCourses(List.of("V44301601", "D10405701"));
+        selections.setMandatoryCourses(new LinkedHashSet<>(List.of("V44301601", "D10405701")));
         TimePreferenceRequest timePrefs = new TimePreferenceRequest();
         timePrefs.setPreferredTimeSlots(List.of(
                 new TimeSlotDto("Tue", List.of(3,4,5,6,7,8,9)), new TimeSlotDto("Wed", List.of(6,7,8,9)),
@@ -430,14 +393,9 @@ class TimetableServiceTest {
         UserPreferenceEntity preferences = new UserPreferenceEntity();
         preferences.setTimePreferences(timePrefs);
         preferences.setCreditSettings(creditSettings);
-        given(userService.getUserDetails(testUserId)).willReturn(csUser);
-        given(userService.getUserCourseSelection(testUserId)).willReturn(selections);
-        given(userService.getUserPreference(testUserId)).willReturn(preferences);
+        stubPlanningContext(csUser, selections, preferences);
         List<DetailedCourseInfo> realisticCourseList = createRealisticExtremeCourseList();
-        given(courseDataService.getDetailedCourses()).willReturn(realisticCourseList);
-        realisticCourseList.forEach(course ->
-                given(courseDataService.getDetailedCourseByCode(course.getCourseCode())).willReturn(course)
-        );
+        stubCatalog(realisticCourseList);
         List<RecommendedTimetableDto> recommendations = timetableService.generateRecommendations(testUserId);
         assertThat(recommendations).isNotEmpty();
 
@@ -450,9 +408,81 @@ class TimetableServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("12. 선호 시간대 필터는 모든 교시가 선호 시간 안에 있는 과목만 남기고, 시간 정보가 없는 과목은 제외하는지 검증")
+    void filterByTimePreferences_keepsCoursesInsidePreferredSlots() {
+        DetailedCourseInfo inside = createCourse("V41010101", "고급파이썬프로그래밍", "AI융합전공", "전공", "전공_후보", 3, new TimeSlotDto("Fri", List.of(3, 4)));
+        DetailedCourseInfo partlyOutside = createCourse("V41010103", "고급파이썬프로그래밍", "AI융합전공", "전공", "전공_후보", 3, new TimeSlotDto("Fri", List.of(4, 5)));
+        DetailedCourseInfo otherDay = createCourse("M01201101", "통계모델링", "AI데이터융합전공", "전공", "전공_후보", 3, new TimeSlotDto("Mon", List.of(3)));
+        DetailedCourseInfo noSchedule = createCourse("Y12345601", "사이버강의", "교양", "교양", "교양", 2, new TimeSlotDto("Mon", List.of()));
+
+        TimePreferenceRequest preferences = new TimePreferenceRequest();
+        preferences.setPreferredTimeSlots(List.of(new TimeSlotDto("Fri", List.of(1, 2, 3, 4)), new TimeSlotDto("Tue", List.of(3))));
+
+        assertThat(timetableService.filterByTimePreferences(List.of(inside, partlyOutside, otherDay, noSchedule), preferences))
+                .containsExactly(inside);
+        // 선호 시간대가 없으면 필터링하지 않는다.
+        assertThat(timetableService.filterByTimePreferences(List.of(inside, otherDay), new TimePreferenceRequest()))
+                .containsExactly(inside, otherDay);
+    }
+
+    @Test
+    @DisplayName("13. 시간 충돌 검사는 같은 요일/교시가 겹칠 때만 충돌로 보고, 다른 요일의 같은 교시는 충돌로 보지 않는지 검증")
+    void hasTimeConflictInList_detectsOnlySameDayAndPeriod() {
+        DetailedCourseInfo monday = createCourse("M01201101", "통계모델링", "AI데이터융합전공", "전공", "전공_후보", 3, new TimeSlotDto("Mon", List.of(4, 5, 6)));
+        DetailedCourseInfo friday = createCourse("V41010103", "고급파이썬프로그래밍", "AI융합전공", "전공", "전공_후보", 3, new TimeSlotDto("Fri", List.of(4, 5, 6)));
+        DetailedCourseInfo fridayOverlap = createCourse("V41010101", "고급파이썬프로그래밍", "AI융합전공", "전공", "전공_후보", 3, new TimeSlotDto("Fri", List.of(6, 7)));
+
+        assertThat(timetableService.hasTimeConflictInList(List.of(monday, friday))).isFalse();
+        assertThat(timetableService.hasTimeConflictInList(List.of(monday, friday, fridayOverlap))).isTrue();
+        assertThat(timetableService.hasTimeConflictInList(List.of(friday))).isFalse();
+    }
+
+    @Test
+    @DisplayName("14. 탐색 예산 초과로 잘린 추천 결과는 캐시되지 않고, 끝까지 탐색한 결과만 재사용되는지 검증")
+    void truncated_response_should_not_be_cached() {
+        ReflectionTestUtils.setField(timetableService, "recommendationCache", new RecommendationCache(100, 600));
+        UserPreferenceEntity preferences = createDefaultPreferences();
+        preferences.getCreditSettings().setCreditGoalsPerType(Map.of("교양", new CreditRangeDto(1, 5)));
+        stubPlanningContext(testUser, new UserCourseSelectionEntity(), preferences);
+
+        // 시간이 겹치지 않는 1학점 교양 25개: 탐색 노드가 첫 예산 확인 간격(1024)을 넘는다.
+        List<String> days = List.of("Mon", "Tue", "Wed", "Thu", "Fri");
+        List<DetailedCourseInfo> courses = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            courses.add(createCourse(String.format("Y%02d00001", i), "교양" + i, null, "교양", "교양", 1,
+                    new TimeSlotDto(days.get(i % 5), List.of(1 + i / 5))));
+        }
+        stubCatalog(courses);
+
+        // when
+        ReflectionTestUtils.setField(timetableService, "searchMaxNodes", 1L);
+        RecommendedTimetableResponse truncated = timetableService.recommendTimetables(testUserId);
+        ReflectionTestUtils.setField(timetableService, "searchMaxNodes", 2_000_000L);
+        RecommendedTimetableResponse complete = timetableService.recommendTimetables(testUserId);
+        RecommendedTimetableResponse cached = timetableService.recommendTimetables(testUserId);
+
+        // then
+        assertThat(truncated.isTruncated()).isTrue();
+        assertThat(complete).isNotSameAs(truncated);
+        assertThat(complete.isTruncated()).isFalse();
+        assertThat(cached).isSameAs(complete);
+    }
+
     // =====================================================================================
     // 테스트 데이터 생성 헬퍼 메소드
     // =====================================================================================
+    // 추천 입력 스냅샷을 호출 시점의 엔티티 값으로 만들어 돌려주도록 설정
+    private void stubPlanningContext(User user, UserCourseSelectionEntity selections, UserPreferenceEntity preferences) {
+        given(userService.loadPlanningContext(testUserId))
+                .willAnswer(invocation -> UserPlanningContext.of(user, selections, preferences));
+    }
+
+    // 주어진 강의 목록을 현재 카탈로그 스냅샷으로 설정
+    private void stubCatalog(List<DetailedCourseInfo> courses) {
+        given(courseDataService.getCatalog()).willReturn(new CourseCatalog(1L, courses));
+    }
+
     private List<DetailedCourseInfo> createSimpleCourseList() {
         return List.of(
                 createCourse("V41010101", "고급파이썬프로그래밍", "AI융합전공", "전공", "전공_후보", 3, new TimeSlotDto("Thu", List.of(4, 5, 6))),
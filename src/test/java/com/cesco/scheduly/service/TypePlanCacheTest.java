@@ -0,0 +1,132 @@
+package com.cesco.scheduly.service;
+
+import com.cesco.scheduly.dto.timetable.CreditRangeDto;
+import com.cesco.scheduly.model.DetailedCourseInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.cesco.scheduly.service.TimetableFixtures.DAYS;
+import static com.cesco.scheduly.service.TimetableFixtures.course;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypePlanCacheTest {
+
+    @Test
+    @DisplayName("같은 키는 한 번만 만들고, 풀 지문이나 학점 범위가 다르면 새로 만드는지 검증")
+    void should_build_once_per_key() {
+        TypePlanCache cache = new TypePlanCache(10, 1_000, 100);
+        AtomicInteger builds = new AtomicInteger();
+
+        TypePlanCache.TypePlan first = cache.getOrBuild(new TypePlanCache.Key("pool-a", 3, 6), () -> build(builds));
+        TypePlanCache.TypePlan hit = cache.getOrBuild(new TypePlanCache.Key("pool-a", 3, 6), () -> build(builds));
+        cache.getOrBuild(new TypePlanCache.Key("pool-b", 3, 6), () -> build(builds));
+        cache.getOrBuild(new TypePlanCache.Key("pool-a", 3, 9), () -> build(builds));
+
+        assertThat(hit).isSameAs(first);
+        assertThat(builds.get()).isEqualTo(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("항목 수를 넘으면 가장 오래 사용하지 않은 트리부터 버리는지 검증")
+    void should_evict_least_recently_used_plan() {
+        TypePlanCache cache = new TypePlanCache(2, 1_000, 100);
+        AtomicInteger builds = new AtomicInteger();
+        TypePlanCache.Key a = new TypePlanCache.Key("a", 0, 3);
+        TypePlanCache.Key b = new TypePlanCache.Key("b", 0, 3);
+        TypePlanCache.Key c = new TypePlanCache.Key("c", 0, 3);
+
+        cache.getOrBuild(a, () -> build(builds));
+        cache.getOrBuild(b, () -> build(builds));
+        cache.getOrBuild(a, () -> build(builds)); // a 를 최근 사용으로
+        cache.getOrBuild(c, () -> build(builds)); // b 가 버려짐
+        cache.getOrBuild(a, () -> build(builds));
+        cache.getOrBuild(b, () -> build(builds));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(builds.get()).isEqualTo(4); // a, b, c, 다시 b
+    }
+
+    @Test
+    @DisplayName("내용이 같은 풀은 다른 사용자 요청에서도 트리를 공유하고, 시간이 하나라도 다르면 공유하지 않는지 검증")
+    void engines_should_share_plan_only_for_same_pool_fingerprint() {
+        TypePlanCache cache = new TypePlanCache(10, 100_000, 10_000);
+
+        List<DetailedCourseInfo> firstUserPool = pool("Mon");
+        List<DetailedCourseInfo> secondUserPool = pool("Mon"); // 같은 내용, 다른 인스턴스
+        List<DetailedCourseInfo> movedPool = pool("Tue");     // 한 과목의 요일만 다름
+
+        List<TimetableSearchEngine.ScoredTimetable> first = search(firstUserPool, cache);
+        assertThat(cache.size()).isEqualTo(1);
+        List<TimetableSearchEngine.ScoredTimetable> second = search(secondUserPool, cache);
+        assertThat(cache.size()).isEqualTo(1);
+        search(movedPool, cache);
+        assertThat(cache.size()).isEqualTo(2);
+
+        // 캐시된 트리를 따라가도 캐시 없이 탐색한 것과 결과가 같다.
+        List<TimetableSearchEngine.ScoredTimetable> uncached = search(secondUserPool, null);
+        assertThat(codes(second)).isEqualTo(codes(uncached));
+        assertThat(codes(first)).isEqualTo(codes(uncached));
+    }
+
+    @Test
+    @DisplayName("트리를 만드는 노드도 요청의 탐색 예산에 합산되고, 예산이 바닥나면 만들다 만 트리를 캐시하지 않는지 검증")
+    void plan_build_should_be_charged_to_request_budget() {
+        TypePlanCache cache = new TypePlanCache(10, 1_000_000, 100_000);
+        // 시간이 겹치지 않는 1학점 과목 25개, 1~5학점: 트리 노드가 수만 개
+        List<DetailedCourseInfo> pool = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            pool.add(course("Y" + i, "Y" + i, 1, DAYS.get(i % 5), 1 + i / 5));
+        }
+
+        SearchBudget small = new SearchBudget(2_000, 0);
+        List<TimetableSearchEngine.ScoredTimetable> truncated = newEngine(pool, 1, 5, cache, small)
+                .searchBest(5, new TimetableScorer(null, 5), small);
+        assertThat(small.getExhaustedBy()).isEqualTo(SearchBudget.Limit.NODES);
+        assertThat(small.getConsumedNodes()).isLessThan(10_000);
+        assertThat(truncated.size()).isLessThanOrEqualTo(5);
+        assertThat(cache.size()).isZero();
+
+        SearchBudget unlimited = SearchBudget.unlimited();
+        newEngine(pool, 1, 5, cache, unlimited);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(unlimited.getConsumedNodes()).isGreaterThan(10_000); // 트리 노드 수만큼 합산
+    }
+
+    private TypePlanCache.TypePlan build(AtomicInteger builds) {
+        builds.incrementAndGet();
+        return TypePlanCache.TypePlan.build(new int[]{3}, new long[]{1L}, new long[]{0L}, new int[]{0}, 1,
+                new int[]{3, 0}, 0, 3, 100, SearchBudget.unlimited());
+    }
+
+    private List<TimetableSearchEngine.ScoredTimetable> search(List<DetailedCourseInfo> pool, TypePlanCache cache) {
+        return newEngine(pool, 4, 6, cache, SearchBudget.unlimited())
+                .searchBest(100, new TimetableScorer(null, 6), SearchBudget.unlimited());
+    }
+
+    private TimetableSearchEngine newEngine(List<DetailedCourseInfo> pool, int min, int max,
+                                            TypePlanCache cache, SearchBudget planBudget) {
+        Map<String, CreditRangeDto> goals = new LinkedHashMap<>();
+        goals.put("교양", new CreditRangeDto(min, max));
+        return new TimetableSearchEngine(List.of(), Map.of("교양", pool), new ArrayList<>(goals.keySet()), goals,
+                new HashMap<>(Map.of("교양", 0)), min, max, cache, planBudget);
+    }
+
+    private List<DetailedCourseInfo> pool(String movedDay) {
+        return List.of(
+                course("Y01", "Y01", 2, movedDay, 1, 2),
+                course("Y02", "Y02", 2, "Mon", 2, 3),
+                course("Y03", "Y03", 2, "Wed", 1, 2),
+                course("Y04", "Y04", 1, "Thu", 5),
+                course("Y05", "Y05", 3, "Fri", 4, 5, 6));
+    }
+
+    private List<List<String>> codes(List<TimetableSearchEngine.ScoredTimetable> timetables) {
+        return timetables.stream()
+                .map(timetable -> timetable.courses().stream().map(DetailedCourseInfo::getCourseCode).toList())
+                .toList();
+    }
+}
@@ -0,0 +1,110 @@
+package com.cesco.scheduly.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserReadCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("공유 캐시에 있으면 다시 읽지 않고, 사용자와 값의 종류별로 따로 보관하는지 검증")
+    void get_returnsCachedValueWithoutLoading() {
+        UserReadCache cache = new UserReadCache(10, 30);
+
+        String first = cache.get(String.class, 1L, () -> load("user-1"));
+        String hit = cache.get(String.class, 1L, () -> load("다시 읽음"));
+        cache.get(String.class, 2L, () -> load("user-2"));
+        cache.get(Integer.class, 1L, () -> { loads.incrementAndGet(); return 1; });
+
+        assertThat(hit).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서는 공유 캐시가 비워져도 처음 읽은 값을 그대로 쓰는지 검증")
+    void get_usesRequestIdentityMapWithinRequest() {
+        UserReadCache cache = new UserReadCache(1, 30);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        String first = cache.get(String.class, 1L, () -> load("user-1"));
+        cache.get(String.class, 2L, () -> load("user-2")); // 공유 캐시에서 1번 사용자가 밀려남
+
+        assertThat(cache.get(String.class, 1L, () -> load("다시 읽음"))).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 항목은 다시 읽는지 검증")
+    void get_reloadsExpiredEntry() throws InterruptedException {
+        UserReadCache cache = new UserReadCache(10, 0); // 넣는 즉시 만료
+
+        cache.get(String.class, 1L, () -> load("old"));
+        Thread.sleep(2);
+        String reloaded = cache.get(String.class, 1L, () -> load("new"));
+
+        assertThat(reloaded).isEqualTo("new");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("항목 수를 넘으면 가장 오래 사용하지 않은 항목부터 버리는지 검증")
+    void get_evictsLeastRecentlyUsedEntry() {
+        UserReadCache cache = new UserReadCache(2, 30);
+
+        cache.get(String.class, 1L, () -> load("user-1"));
+        cache.get(String.class, 2L, () -> load("user-2"));
+        cache.get(String.class, 1L, () -> load("user-1")); // 1번을 최근 사용으로
+        cache.get(String.class, 3L, () -> load("user-3")); // 2번이 버려짐
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.get(String.class, 1L, () -> load("user-1"));
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(String.class, 2L, () -> load("user-2"));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 전에 다른 요청이 넣어 둔 이전 값도 커밋 뒤에 비우는지 검증")
+    void invalidate_evictsAgainAfterCommit() {
+        UserReadCache cache = new UserReadCache(10, 30);
+        cache.get(String.class, 1L, () -> load("before"));
+        cache.get(String.class, 2L, () -> load("other"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidate(1L);
+        // 커밋 전: 다른 요청이 아직 커밋되지 않은 변경 대신 이전 값을 읽어 다시 넣는다.
+        assertThat(cache.get(String.class, 1L, () -> load("before"))).isEqualTo("before");
+        assertThat(cache.get(String.class, 1L, () -> load("다시 읽음"))).isEqualTo("before");
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(cache.get(String.class, 1L, () -> load("after"))).isEqualTo("after");
+        assertThat(cache.get(String.class, 2L, () -> load("다시 읽음"))).isEqualTo("other"); // 다른 사용자는 그대로
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}